@@ -0,0 +1,357 @@
+package twg2.collections.dataStructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/** An approximate frequency map with bounded memory, for counting keys with too many distinct values for an exact {@link FrequencyMap}.<br>
+ * Point estimates come from a Count-Min sketch, a {@code depth x width} table of counters where each key increments one counter per row.
+ * A key's estimate is the minimum of its counters. When every key's true count is non-negative, an estimate is never less than the true count
+ * and, with probability {@code 1 - delta}, exceeds it by at most {@code epsilon * total()}. The sketch uses
+ * {@code width = 2^ceil(log2(e / epsilon))} and {@code depth = ceil(ln(1 / delta))}.<br>
+ * The heaviest keys are tracked by a Space-Saving tracker of {@code k} counters. Once the sketch estimate of a key which is not tracked
+ * exceeds the smallest tracked count, the key replaces the tracked key with the smallest count. Its count starts at the smaller of the
+ * sketch estimate and the replaced count plus the added value, and everything except the added value is a possible over-count
+ * ({@link HeavyHitter#getError()}). Using the sketch estimate stops a long tail of rare keys from churning the tracked counts upward,
+ * and any key whose count is greater than {@code total() / k} is still always tracked. Decrements only adjust keys which are already tracked.<br>
+ * Memory use is {@code O(width * depth + k)} regardless of the number of distinct keys. Null keys are permitted.
+ * This class is not thread-safe.
+ * @param <K> the type of keys in this map
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ApproximateFrequencyMap<K> {
+	private final double epsilon;
+	private final double delta;
+	private final int width;
+	private final int depth;
+	/** The Count-Min sketch, row {@code r} is stored at indices {@code [r * width, (r + 1) * width)} */
+	private final long[] sketch;
+	private final int widthMask;
+	private long total;
+
+	/** The Space-Saving counters as a min-heap ordered by count */
+	private final Counter<K>[] heap;
+	private int heapSize;
+	private final HashMap<K, Counter<K>> tracked;
+
+
+	/** A key tracked by {@link ApproximateFrequencyMap#topK()}, with its estimated count and the maximum amount by which the count may over-estimate the key's true count
+	 * @param <K> the type of key
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static final class HeavyHitter<K> {
+		private final K key;
+		private final long count;
+		private final long error;
+
+
+		public HeavyHitter(K key, long count, long error) {
+			this.key = key;
+			this.count = count;
+			this.error = error;
+		}
+
+
+		public K getKey() {
+			return key;
+		}
+
+
+		/**
+		 * @return the key's estimated count, the true count is in the range {@code [count - error, count]}
+		 */
+		public long getCount() {
+			return count;
+		}
+
+
+		/**
+		 * @return the maximum over-count of {@link #getCount()}
+		 */
+		public long getError() {
+			return error;
+		}
+
+
+		@Override
+		public String toString() {
+			return key + "=" + count + (error != 0 ? "(+-" + error + ")" : "");
+		}
+
+	}
+
+
+	/** A Space-Saving counter, mutable so that replacing the minimum key does not allocate
+	 */
+	private static final class Counter<K> {
+		K key;
+		long count;
+		long error;
+		int heapIndex;
+	}
+
+
+	/**
+	 * @param epsilon the maximum over-estimate of a point estimate, as a fraction of the total count, in the range {@code (0, 1)}
+	 * @param delta the probability that a point estimate exceeds the {@code epsilon} bound, in the range {@code (0, 1)}
+	 * @param k the number of heavy hitters to track
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public ApproximateFrequencyMap(double epsilon, double delta, int k) {
+		if(!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+			throw new IllegalArgumentException("epsilon (" + epsilon + ") and delta (" + delta + ") must be in the range (0, 1)");
+		}
+		if(k < 1) {
+			throw new IllegalArgumentException("k must be positive: " + k);
+		}
+		int minWidth = (int)Math.min(Math.ceil(Math.E / epsilon), 1 << 30);
+		this.epsilon = epsilon;
+		this.delta = delta;
+		this.width = (minWidth <= 1 ? 1 : Integer.highestOneBit(minWidth - 1) << 1);
+		this.depth = (int)Math.max(1, Math.ceil(Math.log(1 / delta)));
+		if((long)width * depth > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("sketch too large for epsilon " + epsilon + " and delta " + delta);
+		}
+		this.sketch = new long[width * depth];
+		this.widthMask = width - 1;
+		this.heap = new Counter[k];
+		this.tracked = new HashMap<>();
+	}
+
+
+	/**
+	 * @return the estimated count of the key, 0 if the key has never been added
+	 */
+	public long get(K key) {
+		int h = Objects.hashCode(key);
+		int h1 = mix(h);
+		int h2 = mix(h ^ 0x5BD1E995) | 1;
+		long min = Long.MAX_VALUE;
+		for(int r = 0, off = 0; r < depth; r++, off += width) {
+			long c = sketch[off + ((h1 + r * h2) & widthMask)];
+			if(c < min) {
+				min = c;
+			}
+		}
+		return min;
+	}
+
+
+	public void increment(K key) {
+		getAndAdd(key, 1);
+	}
+
+
+	public void decrement(K key) {
+		getAndAdd(key, -1);
+	}
+
+
+	public long getAndIncrement(K key) {
+		return getAndAdd(key, 1);
+	}
+
+
+	public long getAndDecrement(K key) {
+		return getAndAdd(key, -1);
+	}
+
+
+	public void add(K key, long value) {
+		getAndAdd(key, value);
+	}
+
+
+	public void subtract(K key, long value) {
+		getAndAdd(key, -value);
+	}
+
+
+	/** Add a value to a key's count
+	 * @return the key's estimated count before the add
+	 */
+	public long getAndAdd(K key, long add) {
+		int h = Objects.hashCode(key);
+		int h1 = mix(h);
+		int h2 = mix(h ^ 0x5BD1E995) | 1;
+		long min = Long.MAX_VALUE;
+		for(int r = 0, off = 0; r < depth; r++, off += width) {
+			int i = off + ((h1 + r * h2) & widthMask);
+			long c = sketch[i];
+			if(c < min) {
+				min = c;
+			}
+			sketch[i] = c + add;
+		}
+		total += add;
+		track(key, add, min + add);
+		return min;
+	}
+
+
+	/**
+	 * @return the sum of every value added to this map
+	 */
+	public long total() {
+		return total;
+	}
+
+
+	/**
+	 * @return the maximum expected over-estimate of {@link #get(Object)}, {@code epsilon * total()}
+	 */
+	public long errorBound() {
+		return (long)Math.ceil(epsilon * total);
+	}
+
+
+	/**
+	 * @return the tracked heavy hitters, at most {@code k}, sorted by count from largest to smallest
+	 */
+	public List<HeavyHitter<K>> topK() {
+		List<HeavyHitter<K>> res = new ArrayList<>(heapSize);
+		for(int i = 0; i < heapSize; i++) {
+			Counter<K> counter = heap[i];
+			res.add(new HeavyHitter<>(counter.key, counter.count, counter.error));
+		}
+		res.sort((a, b) -> Long.compare(b.count, a.count));
+		return res;
+	}
+
+
+	/** Reset all counts to zero and stop tracking all keys
+	 */
+	public void clear() {
+		Arrays.fill(sketch, 0);
+		Arrays.fill(heap, 0, heapSize, null);
+		heapSize = 0;
+		tracked.clear();
+		total = 0;
+	}
+
+
+	public double getEpsilon() {
+		return epsilon;
+	}
+
+
+	public double getDelta() {
+		return delta;
+	}
+
+
+	/**
+	 * @return the number of counters per row of the Count-Min sketch
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+
+	/**
+	 * @return the number of rows (hash functions) in the Count-Min sketch
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+
+	/** Update the Space-Saving counters
+	 * @param estimate the key's sketch estimate, including {@code add}
+	 */
+	private void track(K key, long add, long estimate) {
+		Counter<K> counter = tracked.get(key);
+		if(counter != null) {
+			counter.count += add;
+			if(add > 0) {
+				siftDown(counter.heapIndex);
+			}
+			else {
+				siftUp(counter.heapIndex);
+			}
+		}
+		else if(add <= 0) {
+			// untracked keys are assumed to be below the tracked minimum, decrementing them cannot promote them
+			return;
+		}
+		else if(heapSize < heap.length) {
+			counter = new Counter<>();
+			counter.key = key;
+			counter.count = add;
+			counter.heapIndex = heapSize;
+			heap[heapSize++] = counter;
+			tracked.put(key, counter);
+			siftUp(counter.heapIndex);
+		}
+		else if(estimate > heap[0].count) {
+			// replace the minimum key, both the sketch estimate and the minimum count plus 'add' are upper bounds of the new key's count
+			counter = heap[0];
+			tracked.remove(counter.key);
+			long count = Math.min(counter.count + add, estimate);
+			counter.key = key;
+			counter.count = count;
+			counter.error = count - add;
+			tracked.put(key, counter);
+			siftDown(0);
+		}
+	}
+
+
+	private void siftUp(int i) {
+		final Counter<K>[] h = heap;
+		Counter<K> c = h[i];
+		while(i > 0) {
+			int parent = (i - 1) >>> 1;
+			Counter<K> p = h[parent];
+			if(p.count <= c.count) {
+				break;
+			}
+			h[i] = p;
+			p.heapIndex = i;
+			i = parent;
+		}
+		h[i] = c;
+		c.heapIndex = i;
+	}
+
+
+	private void siftDown(int i) {
+		final Counter<K>[] h = heap;
+		final int n = heapSize;
+		Counter<K> c = h[i];
+		int half = n >>> 1;
+		while(i < half) {
+			int child = 2 * i + 1;
+			int right = child + 1;
+			if(right < n && h[right].count < h[child].count) {
+				child = right;
+			}
+			Counter<K> ch = h[child];
+			if(c.count <= ch.count) {
+				break;
+			}
+			h[i] = ch;
+			ch.heapIndex = i;
+			i = child;
+		}
+		h[i] = c;
+		c.heapIndex = i;
+	}
+
+
+	/** The MurmurHash3 32-bit finalizer
+	 */
+	private static int mix(int h) {
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+}
@@ -0,0 +1,127 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+
+/** A pool of {@code Object[]} arrays grouped into power-of-two size classes, used by {@link BaseList} to reuse
+ * the arrays released when a list grows, is trimmed, or is {@link BaseList#release() released}.<br>
+ * An array of length {@code n} is pooled in size class {@code floor(log2(n))} and {@link #acquire(int)} takes arrays from
+ * size class {@code ceil(log2(minCapacity))}, so an acquired array's length is at least the requested capacity
+ * (but may be larger). Arrays smaller than the minimum pooled length are not pooled and each size class holds a limited
+ * number of arrays, extra released arrays are left for the garbage collector.<br>
+ * Released arrays are cleared before being pooled so pooled arrays never retain references to old elements.
+ * This class is thread-safe so one recycler can be shared by many lists.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ArrayRecycler {
+	private static final int SIZE_CLASSES = 31;
+
+	private final int minPooledLength;
+	private final int maxPerClass;
+	/** Stacks of pooled arrays, one per size class, {@code pool[k]} arrays have lengths in the range {@code [2^k, 2^(k+1))} */
+	private final Object[][][] pool;
+	private final int[] counts;
+
+
+	/** Create a recycler which pools arrays of length 16 or more and up to 8 arrays per size class
+	 */
+	public ArrayRecycler() {
+		this(16, 8);
+	}
+
+
+	/**
+	 * @param minPooledLength the minimum length of arrays to pool, smaller arrays are allocated and discarded normally
+	 * @param maxPerClass the maximum number of arrays pooled in each power-of-two size class
+	 */
+	public ArrayRecycler(int minPooledLength, int maxPerClass) {
+		if(minPooledLength < 1 || maxPerClass < 0) {
+			throw new IllegalArgumentException("min pooled length (" + minPooledLength + ") must be positive and max per class (" + maxPerClass + ") must be non-negative");
+		}
+		this.minPooledLength = minPooledLength;
+		this.maxPerClass = maxPerClass;
+		this.pool = new Object[SIZE_CLASSES][][];
+		this.counts = new int[SIZE_CLASSES];
+	}
+
+
+	/** Get an array with a length of at least {@code minCapacity}, either from this pool or newly allocated.
+	 * Newly allocated arrays are rounded up to a power of two (if they are pool sized) so that they can be reused for any
+	 * capacity in their size class once released.
+	 * @param minCapacity the minimum array length
+	 * @return an array containing only {@code null} elements
+	 */
+	public Object[] acquire(int minCapacity) {
+		if(minCapacity < minPooledLength) {
+			return new Object[minCapacity];
+		}
+		int k = 32 - Integer.numberOfLeadingZeros(minCapacity - 1);
+		if(k >= SIZE_CLASSES) {
+			return new Object[minCapacity];
+		}
+		synchronized(this) {
+			int n = counts[k];
+			if(n > 0) {
+				Object[] res = pool[k][--n];
+				pool[k][n] = null;
+				counts[k] = n;
+				return res;
+			}
+		}
+		return new Object[1 << k];
+	}
+
+
+	/** Return an array to this pool, the caller must not use the array after calling this method.
+	 * @param array the array to pool
+	 * @param usedLength the number of elements, starting at index 0, which may be non-null and must be cleared
+	 */
+	public void release(Object[] array, int usedLength) {
+		int len = array.length;
+		if(len < minPooledLength) {
+			return;
+		}
+		int k = 31 - Integer.numberOfLeadingZeros(len);
+		synchronized(this) {
+			if(counts[k] >= maxPerClass) {
+				return;
+			}
+		}
+		Arrays.fill(array, 0, usedLength, null);
+		synchronized(this) {
+			int n = counts[k];
+			if(n < maxPerClass) {
+				if(pool[k] == null) {
+					pool[k] = new Object[maxPerClass][];
+				}
+				pool[k][n] = array;
+				counts[k] = n + 1;
+			}
+		}
+	}
+
+
+	/**
+	 * @return the total number of arrays currently pooled
+	 */
+	public synchronized int pooledCount() {
+		int total = 0;
+		for(int n : counts) {
+			total += n;
+		}
+		return total;
+	}
+
+
+	/** Discard all pooled arrays
+	 */
+	public synchronized void clear() {
+		for(int k = 0; k < SIZE_CLASSES; k++) {
+			if(pool[k] != null) {
+				Arrays.fill(pool[k], null);
+			}
+			counts[k] = 0;
+		}
+	}
+
+}
@@ -21,10 +21,11 @@ import twg2.collections.interfaces.ListReadOnly;
  * @since 2014-11-29
  */
 public final class ArrayView<E> implements List<E>, ListReadOnly<E> {
-	private Object[] objs;
-	private int off;
-	private int len;
-	private volatile int mod;
+	// package-private to allow ListCursor access
+	Object[] objs;
+	int off;
+	int len;
+	volatile int mod;
 	private final boolean allowSet;
 
 
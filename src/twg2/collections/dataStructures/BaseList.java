@@ -1,5 +1,6 @@
 package twg2.collections.dataStructures;
 
+import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -13,6 +14,9 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -100,6 +104,11 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 */
 	protected static final Object[] DEFAULTCAPACITY_EMPTY_ARY = new Object[0];
 
+	/** Lists smaller than this size are processed sequentially by the {@code parallel*()} methods,
+	 * also the minimum number of elements processed by each parallel task
+	 */
+	protected static final int PARALLEL_THRESHOLD = 1 << 13;
+
 	/** The array buffer in which the data elements are stored.
 	 * The capacity of this BaseList is the length of this array buffer.
 	 * An empty list with elementData == DEFAULTCAPACITY_EMPTY_ARY
@@ -112,6 +121,29 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 */
 	protected int size;
 
+	/** The component type of the {@link #elements} array if this list was created with a typed backing array (see {@link #BaseList(Class, int)}), otherwise null
+	 * @serial
+	 */
+	protected Class<?> componentType;
+
+	/** A zero length array of this list's {@link #componentType} used like {@link #DEFAULTCAPACITY_EMPTY_ARY} by typed lists,
+	 * created the first time a typed list is {@link #release() released}
+	 */
+	protected transient Object[] typedDefaultCapacityEmptyAry;
+
+	/** True if the current {@link #elements} array is shared with one or more {@link #snapshot()} lists,
+	 * the array must be copied (see {@link #unshare()}) before any element in the range {@code [0, size)} is modified
+	 */
+	protected transient boolean shared;
+
+	/** Calculates this list's new capacity when it grows, {@code null} to use the default 50% growth, see {@link #setGrowthPolicy(GrowthPolicy)}
+	 */
+	protected transient GrowthPolicy growthPolicy;
+
+	/** Optional pool which this list's arrays are acquired from when the list grows and released to when they are replaced, see {@link #setRecycler(ArrayRecycler)}
+	 */
+	protected transient ArrayRecycler recycler;
+
 
 	/** Constructs an empty list with the specified initial capacity.
 	 * @param initialCapacity  the initial capacity of the list
@@ -130,6 +162,38 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	}
 
 
+	/** Constructs an empty list with the specified initial capacity, backed by an array of the specified component type
+	 * (like {@link Bag#Bag(Class, int)}), so that {@link #getRawArray()} returns an array which can be cast to {@code E[]}.<br>
+	 * Every array this list allocates has the same component type, adding an element which is not an instance of the component type
+	 * throws {@link ArrayStoreException}. Array recycling (see {@link #setRecycler(ArrayRecycler)}) is disabled
+	 * since the recycler pools {@code Object[]} arrays.
+	 * @param componentType the component type of the backing array
+	 * @param initialCapacity the initial capacity of the list
+	 * @throws IllegalArgumentException if the specified initial capacity is negative
+	 */
+	public BaseList(Class<? super E> componentType, int initialCapacity) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		this.componentType = (componentType != Object.class ? componentType : null);
+		this.elements = newArray(initialCapacity);
+	}
+
+
+	/** Constructs an empty list with the specified initial capacity, growth policy, and array recycler.
+	 * @param initialCapacity  the initial capacity of the list
+	 * @param growthPolicy the policy used to calculate this list's capacity when it grows, null for the default 50% growth
+	 * @param recycler optional pool to acquire and release this list's arrays from/to, may be null
+	 * @throws IllegalArgumentException if the specified initial capacity is negative
+	 */
+	public BaseList(int initialCapacity, GrowthPolicy growthPolicy, ArrayRecycler recycler) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		this.growthPolicy = growthPolicy;
+		this.recycler = recycler;
+		this.elements = (initialCapacity == 0 ? EMPTY_ARY : newArray(initialCapacity));
+	}
+
+
 	/** Constructs an empty list with an initial capacity of ten.
 	 */
 	public BaseList() {
@@ -163,7 +227,10 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	public void trimToSize() {
 		modCount++;
 		if (size < elements.length) {
-			elements = (size == 0 ? EMPTY_ARY : Arrays.copyOf(elements, size));
+			final Object[] oldElements = elements;
+			elements = (size == 0 ? emptyArray() : Arrays.copyOf(oldElements, size));
+			releaseArray(oldElements, size);
+			shared = false;
 		}
 	}
 
@@ -174,7 +241,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 * @param minCapacity the desired minimum capacity
 	 */
 	public void ensureCapacity(int minCapacity) {
-		if (minCapacity > elements.length && !(elements == DEFAULTCAPACITY_EMPTY_ARY && minCapacity <= DEFAULT_CAPACITY)) {
+		if (minCapacity > elements.length && !(isDefaultCapacityEmpty() && minCapacity <= DEFAULT_CAPACITY)) {
 			modCount++;
 			grow(minCapacity);
 		}
@@ -187,7 +254,16 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 * @throws OutOfMemoryError if minCapacity is less than zero
 	 */
 	protected Object[] grow(int minCapacity) {
-		return elements = Arrays.copyOf(elements, newCapacity(minCapacity));
+		if (recycler == null || componentType != null) {
+			shared = false;
+			return elements = Arrays.copyOf(elements, newCapacity(minCapacity));
+		}
+		final Object[] oldElements = elements;
+		Object[] es = recycler.acquire(newCapacity(minCapacity));
+		System.arraycopy(oldElements, 0, es, 0, size);
+		releaseArray(oldElements, size);
+		shared = false;
+		return elements = es;
 	}
 
 
@@ -199,11 +275,21 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 * @throws OutOfMemoryError if minCapacity is less than zero
 	 */
 	protected int newCapacity(int minCapacity) {
+		if (growthPolicy != null) {
+			if (minCapacity < 0) // overflow
+				throw new OutOfMemoryError();
+			if (isDefaultCapacityEmpty())
+				return Math.max(DEFAULT_CAPACITY, minCapacity);
+			int newCapacity = Math.max(growthPolicy.newCapacity(elements.length, minCapacity), minCapacity);
+			return (newCapacity - MAX_ARRAY_SIZE <= 0)
+				? newCapacity
+				: hugeCapacity(minCapacity);
+		}
 		// overflow check
 		int oldCapacity = elements.length;
 		int newCapacity = oldCapacity + (oldCapacity >> 1);
 		if (newCapacity - minCapacity <= 0) {
-			if (elements == DEFAULTCAPACITY_EMPTY_ARY)
+			if (isDefaultCapacityEmpty())
 				return Math.max(DEFAULT_CAPACITY, minCapacity);
 			if (minCapacity < 0) // overflow
 				throw new OutOfMemoryError();
@@ -215,6 +301,78 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	}
 
 
+	/** Set the policy used to calculate this list's new capacity when it grows
+	 * @param growthPolicy the growth policy, or null to use the default 50% growth
+	 */
+	public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+		this.growthPolicy = growthPolicy;
+	}
+
+
+	/** Set the pool which this list acquires arrays from when it grows and releases replaced arrays to.
+	 * Only use a recycler if no other code retains a reference to this list's array, released arrays are reused by other lists.
+	 * @param recycler the array pool, or null to allocate and discard arrays normally
+	 */
+	public void setRecycler(ArrayRecycler recycler) {
+		this.recycler = recycler;
+	}
+
+
+	/** Allocate an array of this list's {@link #componentType}, or from this list's {@link #recycler} if it has one
+	 */
+	protected Object[] newArray(int capacity) {
+		if (componentType != null)
+			return (Object[]) Array.newInstance(componentType, capacity);
+		return (recycler != null ? recycler.acquire(capacity) : new Object[capacity]);
+	}
+
+
+	/** Returns a zero length array of this list's {@link #componentType}
+	 */
+	protected Object[] emptyArray() {
+		return (componentType != null ? (Object[]) Array.newInstance(componentType, 0) : EMPTY_ARY);
+	}
+
+
+	/** Returns true if this list's array is an empty default capacity array, which
+	 * is expanded to {@link #DEFAULT_CAPACITY} when the first element is added
+	 */
+	protected boolean isDefaultCapacityEmpty() {
+		final Object[] es = elements;
+		return es == DEFAULTCAPACITY_EMPTY_ARY || (typedDefaultCapacityEmptyAry != null && es == typedDefaultCapacityEmptyAry);
+	}
+
+
+	/**
+	 * @return the component type of this list's backing array, {@code Object.class} unless this list was created with {@link #BaseList(Class, int)}
+	 */
+	public Class<?> getComponentType() {
+		return (componentType != null ? componentType : Object.class);
+	}
+
+
+	/** Returns this list's backing array without copying it, elements {@code [0, size())} are this list's elements in order.
+	 * If this list was created with {@link #BaseList(Class, int)} the array can be cast to {@code E[]}.<br>
+	 * The array is replaced when this list grows, so it is only valid until this list is next modified.
+	 * The array must not be modified since it may be shared with {@link #snapshot()} lists.
+	 * @return this list's backing array
+	 */
+	public Object[] getRawArray() {
+		return contiguousElements();
+	}
+
+
+	/** Release an array which this list no longer uses to this list's {@link #recycler}, if it has one.
+	 * Arrays shared with a {@link #snapshot()} are not released.
+	 * @param es the array
+	 * @param usedLength the length, starting at index 0, of the array which may contain non-null elements
+	 */
+	protected void releaseArray(Object[] es, int usedLength) {
+		if (recycler != null && !shared && componentType == null && es.length > 0)
+			recycler.release(es, usedLength);
+	}
+
+
 	protected static int hugeCapacity(int minCapacity) {
 		if (minCapacity < 0) // overflow
 			throw new OutOfMemoryError();
@@ -309,7 +467,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 */
 	@Override
 	public Object[] toArray() {
-		return Arrays.copyOf(elements, size);
+		return Arrays.copyOf(elements, size, Object[].class);
 	}
 
 
@@ -384,7 +542,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	public E set(int index, E element) {
 		Objects.checkIndex(index, size);
 		E oldValue = elementData(index);
-		elements[index] = element;
+		unshare()[index] = element;
 		return oldValue;
 	}
 
@@ -426,7 +584,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 		modCount++;
 		final int s;
 		Object[] elementData;
-		if ((s = size) == (elementData = this.elements).length)
+		if ((s = size) == (elementData = unshare()).length)
 			elementData = grow(size + 1);
 		System.arraycopy(elementData, index,
 						 elementData, index + 1,
@@ -445,7 +603,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	@Override
 	public E remove(int index) {
 		Objects.checkIndex(index, size);
-		final Object[] es = elements;
+		final Object[] es = unshare();
 
 		@SuppressWarnings("unchecked")
 		E oldValue = (E) es[index];
@@ -507,6 +665,8 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	 */
 	protected void fastRemove(Object[] es, int i) {
 		modCount++;
+		if (shared)
+			es = unshare();
 		final int newSize;
 		if ((newSize = size - 1) > i)
 			System.arraycopy(es, i + 1, es, i, newSize - i);
@@ -520,12 +680,41 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	@Override
 	public void clear() {
 		modCount++;
+		if (shared) {
+			// leave the shared array to the snapshots rather than copying and then clearing it
+			elements = newArray(elements.length);
+			shared = false;
+			size = 0;
+			return;
+		}
 		final Object[] es = elements;
 		for (int to = size, i = size = 0; i < to; i++)
 			es[i] = null;
 	}
 
 
+	/** Removes all of the elements from this list and releases this list's array to its
+	 * {@link ArrayRecycler} (if it has one), leaving this list empty with zero capacity.
+	 * The next element added to the list allocates an array of the default capacity (or larger).
+	 */
+	public void release() {
+		modCount++;
+		final Object[] es = elements;
+		final int s = size;
+		size = 0;
+		if (componentType != null) {
+			if (typedDefaultCapacityEmptyAry == null)
+				typedDefaultCapacityEmptyAry = emptyArray();
+			elements = typedDefaultCapacityEmptyAry;
+		}
+		else {
+			elements = DEFAULTCAPACITY_EMPTY_ARY;
+		}
+		releaseArray(es, s);
+		shared = false;
+	}
+
+
 	/** Appends all of the elements in the specified collection to the end of
 	 * this list, in the order that they are returned by the specified collection's
 	 * Iterator.  The behavior of this operation is
@@ -578,7 +767,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 			return false;
 		Object[] elementData;
 		final int s;
-		if (numNew > (elementData = this.elements).length - (s = size))
+		if (numNew > (elementData = unshare()).length - (s = size))
 			elementData = grow(s + numNew);
 
 		int numMoved = s - index;
@@ -607,7 +796,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 			throw new IndexOutOfBoundsException(outOfBoundsMsg(fromIndex, toIndex));
 		}
 		modCount++;
-		shiftTailOverGap(elements, fromIndex, toIndex);
+		shiftTailOverGap(unshare(), fromIndex, toIndex);
 	}
 
 
@@ -661,7 +850,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 
 	boolean batchRemove(Collection<?> c, boolean complement, int from, int end) {
 		Objects.requireNonNull(c);
-		final Object[] es = elements;
+		Object[] es = elements;
 		int r;
 		// Optimize for initial run of survivors
 		for (r = from;; r++) {
@@ -670,6 +859,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 			if (c.contains(es[r]) != complement)
 				break;
 		}
+		es = unshare();
 		int w = r++;
 		try {
 			for (Object e; r < end; r++)
@@ -698,6 +888,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 		try {
 			BaseList<?> v = (BaseList<?>) super.clone();
 			v.elements = Arrays.copyOf(elements, size);
+			v.shared = false;
 			v.modCount = 0;
 			return v;
 		}
@@ -750,7 +941,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 
 		if (size > 0) {
 			// like clone(), allocate array based upon size not capacity
-			Object[] elems = new Object[size];
+			Object[] elems = newArray(size);
 
 			// Read in all elements in the proper order.
 			for (int i = 0; i < size; i++) {
@@ -760,7 +951,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 			elements = elems;
 		}
 		else if (size == 0) {
-			elements = EMPTY_ARY;
+			elements = emptyArray();
 		}
 		else {
 			throw new java.io.InvalidObjectException("Invalid size: " + size);
@@ -798,7 +989,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	boolean removeIf(Predicate<? super E> filter, int i, final int end) {
 		Objects.requireNonNull(filter);
 		int expectedModCount = modCount;
-		final Object[] es = elements;
+		Object[] es = elements;
 		// Optimize for initial run of survivors
 		for (; i < end && !filter.test(elementAt(es, i)); i++)
 			;
@@ -816,6 +1007,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 				throw new ConcurrentModificationException();
 			expectedModCount++;
 			modCount++;
+			es = unshare();
 			int w = beg;
 			for (i = beg; i < end; i++)
 				if (isClear(deathRow, i - beg))
@@ -835,7 +1027,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	public void replaceAll(UnaryOperator<E> operator) {
 		Objects.requireNonNull(operator);
 		final int expectedModCount = modCount;
-		final Object[] es = elements;
+		final Object[] es = unshare();
 		final int size = this.size;
 		for (int i = 0; modCount == expectedModCount && i < size; i++)
 			es[i] = operator.apply(elementAt(es, i));
@@ -849,10 +1041,125 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	@SuppressWarnings("unchecked")
 	public void sort(Comparator<? super E> c) {
 		final int expectedModCount = modCount;
-		Arrays.sort((E[])elements, 0, size, c);
+		Arrays.sort((E[])unshare(), 0, size, c);
+		if (modCount != expectedModCount)
+			throw new ConcurrentModificationException();
+		modCount++;
+	}
+
+
+	/** Sorts this list using {@link Arrays#parallelSort(Object[], int, int, Comparator)}
+	 * which sorts large lists using the common {@link ForkJoinPool}.
+	 * @param c the comparator used to compare list elements, a {@code null} value indicates
+	 * that the elements' {@linkplain Comparable natural ordering} should be used
+	 * @see #sort(Comparator)
+	 */
+	@SuppressWarnings("unchecked")
+	public void parallelSort(Comparator<? super E> c) {
+		final int expectedModCount = modCount;
+		Arrays.parallelSort((E[])unshare(), 0, size, c);
+		if (modCount != expectedModCount)
+			throw new ConcurrentModificationException();
+		modCount++;
+	}
+
+
+	/** Replaces each element of this list with the result of applying the operator to that element,
+	 * using the common {@link ForkJoinPool} if this list contains at least {@link #PARALLEL_THRESHOLD} elements.
+	 * The operator may be called concurrently from multiple threads and in no particular order.
+	 * @param operator the operator to apply to each element
+	 * @see #replaceAll(UnaryOperator)
+	 */
+	public void parallelReplaceAll(UnaryOperator<E> operator) {
+		Objects.requireNonNull(operator);
+		final int size = this.size;
+		if (size < PARALLEL_THRESHOLD) {
+			replaceAll(operator);
+			return;
+		}
+		final int expectedModCount = modCount;
+		final Object[] es = unshare();
+		parallelRange(size, (lo, hi) -> {
+			for (int i = lo; i < hi; i++)
+				es[i] = operator.apply(elementAt(es, i));
+		});
+		if (modCount != expectedModCount)
+			throw new ConcurrentModificationException();
+		modCount++;
+	}
+
+
+	/** Performs the given action for each element of this list, using the common {@link ForkJoinPool}
+	 * if this list contains at least {@link #PARALLEL_THRESHOLD} elements.
+	 * The action may be called concurrently from multiple threads and in no particular order.
+	 * @param action the action to perform for each element
+	 * @see #forEach(Consumer)
+	 */
+	public void parallelForEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		final int size = this.size;
+		if (size < PARALLEL_THRESHOLD) {
+			forEach(action);
+			return;
+		}
+		final int expectedModCount = modCount;
+		final Object[] es = elements;
+		parallelRange(size, (lo, hi) -> {
+			for (int i = lo; i < hi; i++)
+				action.accept(elementAt(es, i));
+		});
+		if (modCount != expectedModCount)
+			throw new ConcurrentModificationException();
+	}
+
+
+	/** Removes all elements satisfying the given predicate. If this list contains at least {@link #PARALLEL_THRESHOLD}
+	 * elements, the predicate is evaluated using the common {@link ForkJoinPool}, then the surviving elements are
+	 * compacted in a single sequential pass.
+	 * The predicate may be called concurrently from multiple threads and in no particular order.
+	 * @param filter a predicate which returns {@code true} for elements to be removed
+	 * @return {@code true} if any elements were removed
+	 * @see #removeIf(Predicate)
+	 */
+	public boolean parallelRemoveIf(Predicate<? super E> filter) {
+		Objects.requireNonNull(filter);
+		final int end = this.size;
+		if (end < PARALLEL_THRESHOLD)
+			return removeIf(filter, 0, end);
+		final int expectedModCount = modCount;
+		final Object[] es = elements;
+		final long[] deathRow = nBits(end);
+		// task ranges are aligned to 64 elements so each 'deathRow' word is only written by one task
+		parallelRange(end, (lo, hi) -> {
+			for (int i = lo; i < hi; i++)
+				if (filter.test(elementAt(es, i)))
+					setBit(deathRow, i);
+		});
 		if (modCount != expectedModCount)
 			throw new ConcurrentModificationException();
+		int beg = 0;
+		for (; beg < end && isClear(deathRow, beg); beg++)
+			;
+		if (beg == end)
+			return false;
 		modCount++;
+		final Object[] dst = unshare();
+		int w = beg;
+		for (int i = beg; i < end; i++)
+			if (isClear(deathRow, i))
+				dst[w++] = dst[i];
+		shiftTailOverGap(dst, w, end);
+		return true;
+	}
+
+
+	/** Run an action over the index range {@code [0, size)} split into 64 element aligned sub-ranges, each containing
+	 * at least {@link #PARALLEL_THRESHOLD} elements, processed in parallel by the common {@link ForkJoinPool}
+	 */
+	protected static void parallelRange(int size, RangeAction action) {
+		int tasks = ForkJoinPool.getCommonPoolParallelism() * 4;
+		int grain = Math.max(PARALLEL_THRESHOLD, ((size / tasks) + 63) & ~63);
+		ForkJoinPool.commonPool().invoke(new RangeTask(0, size, grain, action));
 	}
 
 
@@ -941,6 +1248,48 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	}
 
 
+	/** Returns an immutable, point-in-time view of this list's current elements.
+	 * The snapshot shares this list's elements array so creating it is O(1), the next modification of this list which
+	 * would change one of the shared elements first copies the array (once, no matter how many snapshots share it),
+	 * appending elements does not require a copy since snapshots never read past their own size.<br>
+	 * The snapshot may be read from any thread without synchronization, but this method itself must be called by
+	 * the thread that modifies this list (or while holding the same lock as modifications).
+	 * @return an immutable {@link ListReadOnly} containing the elements of this list at the time of the call
+	 */
+	public ListReadOnly<E> snapshot() {
+		if (size == 0)
+			return new Snapshot<>(EMPTY_ARY, 0);
+		shared = true;
+		return new Snapshot<>(elements, size);
+	}
+
+
+	/** Copies the {@link #elements} array if it is shared with a {@link #snapshot()}.
+	 * Must be called before modifying any element in the range {@code [0, size)}.
+	 * @return the {@link #elements} array, safe to modify
+	 */
+	protected Object[] unshare() {
+		Object[] es = elements;
+		if (shared) {
+			elements = es = Arrays.copyOf(es, es.length);
+			shared = false;
+		}
+		return es;
+	}
+
+
+	/** Returns the elements array with elements {@code [0, size)} stored contiguously, used by {@link ListCursor}
+	 */
+	Object[] contiguousElements() {
+		return elements;
+	}
+
+
+	final int getModCount() {
+		return modCount;
+	}
+
+
 	void checkInvariants() {
 		// assert size >= 0;
 		// assert size == elementData.length || elementData[size] == null;
@@ -996,6 +1345,48 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 	}
 
 
+	/** An action performed on an index range by {@link BaseList#parallelRange(int, RangeAction)}
+	 */
+	@FunctionalInterface
+	protected static interface RangeAction {
+		/**
+		 * @param lo the inclusive start index
+		 * @param hi the exclusive end index
+		 */
+		public void apply(int lo, int hi);
+	}
+
+
+	/** Recursively splits an index range in half, on 64 element boundaries, until the range is no larger than {@code grain}
+	 */
+	static final class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int lo;
+		private final int hi;
+		private final int grain;
+		private final RangeAction action;
+
+		RangeTask(int lo, int hi, int grain, RangeAction action) {
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			int mid = ((lo + hi) >>> 1) & ~63;
+			// only split if both halves contain at least 'grain' elements
+			if (hi - lo < 2 * grain || mid <= lo) {
+				action.apply(lo, hi);
+			}
+			else {
+				invokeAll(new RangeTask(lo, mid, grain, action), new RangeTask(mid, hi, grain, action));
+			}
+		}
+	}
+
+
 	/** An optimized version of AbstractList.Itr
 	 */
 	public class BaseIterator implements Iterator<E> {
@@ -1194,7 +1585,7 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 			Objects.checkIndex(index, size);
 			checkModCount();
 			E oldValue = root.elementData(offset + index);
-			root.elements[offset + index] = element;
+			root.unshare()[offset + index] = element;
 			return oldValue;
 		}
 
@@ -1669,4 +2060,101 @@ public class BaseList<E> extends AbstractList<E> implements List<E>, RandomAcces
 		}
 	}
 
+
+
+
+	/** An immutable list returned by {@link BaseList#snapshot()}, which reads the first {@code size}
+	 * elements of an array that is never modified after the snapshot is created.
+	 * The array is referenced through a final field so a snapshot can be safely published to other threads.
+	 */
+	public static final class Snapshot<E> extends AbstractList<E> implements RandomAccess, ListReadOnly<E> {
+		private final Object[] elements;
+		private final int size;
+
+
+		Snapshot(Object[] elements, int size) {
+			this.elements = elements;
+			this.size = size;
+		}
+
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E get(int index) {
+			Objects.checkIndex(index, size);
+			return (E) elements[index];
+		}
+
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+
+
+		@Override
+		public int indexOf(Object o) {
+			final Object[] es = elements;
+			for (int i = 0; i < size; i++)
+				if (Objects.equals(o, es[i]))
+					return i;
+			return -1;
+		}
+
+
+		@Override
+		public int lastIndexOf(Object o) {
+			final Object[] es = elements;
+			for (int i = size - 1; i >= 0; i--)
+				if (Objects.equals(o, es[i]))
+					return i;
+			return -1;
+		}
+
+
+		@Override
+		public Object[] toArray() {
+			return Arrays.copyOf(elements, size, Object[].class);
+		}
+
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T[] toArray(T[] a) {
+			if (a.length < size)
+				return (T[]) Arrays.copyOf(elements, size, a.getClass());
+			System.arraycopy(elements, 0, a, 0, size);
+			if (a.length > size)
+				a[size] = null;
+			return a;
+		}
+
+
+		@Override
+		public void forEach(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			final Object[] es = elements;
+			for (int i = 0; i < size; i++)
+				action.accept(elementAt(es, i));
+		}
+
+
+		@Override
+		public Spliterator<E> spliterator() {
+			return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+		}
+	}
+
 }
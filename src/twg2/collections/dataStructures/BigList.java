@@ -0,0 +1,373 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/** An appendable list indexed by {@code long} which can hold more than {@link Integer#MAX_VALUE} elements.
+ * Elements are stored in fixed size power-of-two chunks (like {@link ChunkedList}) so no single array
+ * exceeds the VM's array size limit and growing the list never copies existing elements.<br>
+ * This class follows the shape of {@link BaseList}'s API with {@code long} indices: {@link #get(long)}, {@link #set(long, Object)},
+ * {@link #add(Object)}, {@link #sizeLong()}, and a {@link #spliterator()} which splits on chunk boundaries so that
+ * {@link #parallelForEach(Consumer)} and {@link #parallelStream()} can process the list using all cores.<br>
+ * It does not implement {@link java.util.List} since that interface is limited to {@code int} indices.
+ * Permits all elements, including {@code null}. This implementation is not synchronized.
+ * @param <E> the type of elements in this list
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class BigList<E> implements Iterable<E> {
+	/** Default chunk size is 2^16 = 65536 elements */
+	protected static final int DEFAULT_CHUNK_SHIFT = 16;
+
+	/** log2 of the number of elements per chunk */
+	protected final int chunkShift;
+	/** chunk size - 1, used to calculate an element's offset within a chunk */
+	protected final int chunkMask;
+	/** The chunks containing this list's elements, only the first {@code chunkCount} chunks are allocated */
+	protected Object[][] chunks;
+	/** The number of allocated chunks */
+	protected int chunkCount;
+	/** The number of elements in this list */
+	protected long size;
+	/** The number of structural modifications, used by iterators and spliterators to detect concurrent modifications */
+	protected transient int modCount;
+
+
+	/** Constructs an empty list with a chunk size of 65536
+	 */
+	public BigList() {
+		this(1 << DEFAULT_CHUNK_SHIFT);
+	}
+
+
+	/** Constructs an empty list with the specified chunk size
+	 * @param chunkSize the number of elements per chunk, must be a power of two
+	 * @throws IllegalArgumentException if {@code chunkSize} is not a positive power of two
+	 */
+	public BigList(int chunkSize) {
+		if(chunkSize < 1 || Integer.bitCount(chunkSize) != 1) {
+			throw new IllegalArgumentException("chunk size must be a power of two: " + chunkSize);
+		}
+		this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+		this.chunkMask = chunkSize - 1;
+		this.chunks = new Object[4][];
+	}
+
+
+	/**
+	 * @return the number of elements in this list
+	 */
+	public long sizeLong() {
+		return size;
+	}
+
+
+	/**
+	 * @return the number of elements in this list, or {@link Integer#MAX_VALUE} if the list contains more than {@code Integer.MAX_VALUE} elements
+	 */
+	public int size() {
+		return (int)Math.min(size, Integer.MAX_VALUE);
+	}
+
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	/** Returns the element at the specified position in this list.
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range {@code [0, sizeLong())}
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(long index) {
+		checkIndex(index);
+		return (E)chunks[(int)(index >>> chunkShift)][(int)index & chunkMask];
+	}
+
+
+	/** Replaces the element at the specified position in this list with the specified element.
+	 * @param index index of the element to replace
+	 * @param element element to be stored at the specified position
+	 * @return the element previously at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range {@code [0, sizeLong())}
+	 */
+	@SuppressWarnings("unchecked")
+	public E set(long index, E element) {
+		checkIndex(index);
+		Object[] chunk = chunks[(int)(index >>> chunkShift)];
+		E oldValue = (E)chunk[(int)index & chunkMask];
+		chunk[(int)index & chunkMask] = element;
+		return oldValue;
+	}
+
+
+	/** Appends the specified element to the end of this list.
+	 * @param e element to be appended to this list
+	 * @return {@code true}
+	 */
+	public boolean add(E e) {
+		modCount++;
+		long s = size;
+		int c = (int)(s >>> chunkShift);
+		if(c == chunkCount) {
+			addChunk();
+		}
+		chunks[c][(int)s & chunkMask] = e;
+		size = s + 1;
+		return true;
+	}
+
+
+	/** Appends all of the elements in the specified iterable to the end of this list.
+	 * @param elems the elements to add
+	 */
+	public void addAll(Iterable<? extends E> elems) {
+		for(E e : elems) {
+			add(e);
+		}
+	}
+
+
+	/** Removes the last element from this list
+	 * @return the removed element
+	 * @throws NoSuchElementException if this list is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public E removeLast() {
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+		modCount++;
+		long last = --size;
+		Object[] chunk = chunks[(int)(last >>> chunkShift)];
+		E oldValue = (E)chunk[(int)last & chunkMask];
+		chunk[(int)last & chunkMask] = null;
+		return oldValue;
+	}
+
+
+	/** Removes all of the elements from this list and releases all chunks
+	 */
+	public void clear() {
+		modCount++;
+		Arrays.fill(chunks, 0, chunkCount, null);
+		chunkCount = 0;
+		size = 0;
+	}
+
+
+	/** Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element.
+	 */
+	public long indexOf(Object o) {
+		for(int c = 0; ((long)c << chunkShift) < size; c++) {
+			Object[] chunk = chunks[c];
+			long start = (long)c << chunkShift;
+			int n = (int)Math.min(chunkMask + 1, size - start);
+			for(int i = 0; i < n; i++) {
+				if(o == null ? chunk[i] == null : o.equals(chunk[i])) {
+					return start + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		spliterator().forEachRemaining(action);
+	}
+
+
+	/** Performs the given action for each element of this list using the common {@link java.util.concurrent.ForkJoinPool}.
+	 * The action may be called concurrently from multiple threads and in no particular order.
+	 * @param action the action to perform for each element
+	 */
+	public void parallelForEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		parallelStream().forEach(action);
+	}
+
+
+	public Stream<E> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+
+	public Stream<E> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private long cursor;
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return cursor < size;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if(modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				long i = cursor;
+				if(i >= size) {
+					throw new NoSuchElementException();
+				}
+				cursor = i + 1;
+				return (E)chunks[(int)(i >>> chunkShift)][(int)i & chunkMask];
+			}
+		};
+	}
+
+
+	/** Creates a <em>late-binding</em> and <em>fail-fast</em> {@link Spliterator} over the elements in this list.
+	 * The spliterator splits on chunk boundaries and reports {@link Spliterator#SIZED},
+	 * {@link Spliterator#SUBSIZED}, and {@link Spliterator#ORDERED}.
+	 * @return a {@code Spliterator} over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new BigListSpliterator(0, -1, 0);
+	}
+
+
+	protected void checkIndex(long index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+
+	protected void addChunk() {
+		if(chunkCount == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunkCount + (chunkCount >> 1) + 4);
+		}
+		chunks[chunkCount++] = new Object[chunkMask + 1];
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		long i = 0;
+		for(E e : this) {
+			if(i > 0) {
+				sb.append(", ");
+			}
+			sb.append(e);
+			i++;
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+
+
+
+
+	/** Index-based, chunk aligned split-by-two, lazily initialized Spliterator
+	 */
+	final class BigListSpliterator implements Spliterator<E> {
+		private long index; // current index, modified on advance/split
+		private long fence; // -1 until used; then one past last index
+		private int expectedModCount; // initialized when fence set
+
+		BigListSpliterator(long origin, long fence, int expectedModCount) {
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		private long getFence() {
+			long hi = fence;
+			if(hi < 0) {
+				expectedModCount = modCount;
+				hi = fence = size;
+			}
+			return hi;
+		}
+
+		@Override
+		public BigListSpliterator trySplit() {
+			long hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+			// round the split point down to a chunk boundary so each half reads whole chunks
+			long alignedMid = mid & ~(long)chunkMask;
+			if(alignedMid > lo) {
+				mid = alignedMid;
+			}
+			return (lo >= mid) ? null : new BigListSpliterator(lo, index = mid, expectedModCount);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			long hi = getFence(), i = index;
+			if(i < hi) {
+				index = i + 1;
+				@SuppressWarnings("unchecked")
+				E e = (E)chunks[(int)(i >>> chunkShift)][(int)i & chunkMask];
+				action.accept(e);
+				if(modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			long hi = getFence();
+			long i = index;
+			index = hi;
+			Object[][] cs = chunks;
+			while(i < hi) {
+				Object[] chunk = cs[(int)(i >>> chunkShift)];
+				int off = (int)i & chunkMask;
+				int end = (int)Math.min(chunkMask + 1, off + (hi - i));
+				for(int j = off; j < end; j++) {
+					@SuppressWarnings("unchecked")
+					E e = (E)chunk[j];
+					action.accept(e);
+				}
+				i += end - off;
+			}
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return getFence() - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+
+}
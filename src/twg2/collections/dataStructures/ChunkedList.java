@@ -0,0 +1,404 @@
+package twg2.collections.dataStructures;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import twg2.collections.interfaces.ListReadOnly;
+
+/** Segmented implementation of the {@code List} interface which stores elements in an array of fixed size chunks.
+ * Unlike {@link BaseList}, growing the list never copies existing elements, appending allocates at most one new
+ * chunk (plus an occasional copy of the small array of chunk references) so very large lists avoid the transient
+ * double-size copies and huge single array allocations caused by array doubling.<br>
+ * The chunk size is a power of two so {@link #get(int)} and {@link #set(int, Object)} are a shift and a mask
+ * plus two array loads.
+ * {@link #add(int, Object)} and {@link #remove(int)} shift the tail of the list like {@link BaseList} does, one chunk segment at a time.<br>
+ * Permits all elements, including {@code null}. This implementation is not synchronized.
+ * @param <E> the type of elements in this list
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ChunkedList<E> extends AbstractList<E> implements List<E>, RandomAccess, ListReadOnly<E> {
+	/** Default chunk size is 2^12 = 4096 elements */
+	protected static final int DEFAULT_CHUNK_SHIFT = 12;
+
+	/** log2 of the number of elements per chunk */
+	protected final int chunkShift;
+	/** chunk size - 1, used to calculate an element's offset within a chunk */
+	protected final int chunkMask;
+	/** The chunks containing this list's elements, only the first {@code chunkCount} chunks are allocated */
+	protected Object[][] chunks;
+	/** The number of allocated chunks */
+	protected int chunkCount;
+	/** The number of elements in this list */
+	protected int size;
+
+
+	/** Constructs an empty list with a chunk size of 4096
+	 */
+	public ChunkedList() {
+		this(1 << DEFAULT_CHUNK_SHIFT);
+	}
+
+
+	/** Constructs an empty list with the specified chunk size
+	 * @param chunkSize the number of elements per chunk, must be a power of two
+	 * @throws IllegalArgumentException if {@code chunkSize} is not a positive power of two
+	 */
+	public ChunkedList(int chunkSize) {
+		if(chunkSize < 1 || Integer.bitCount(chunkSize) != 1) {
+			throw new IllegalArgumentException("chunk size must be a power of two: " + chunkSize);
+		}
+		this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+		this.chunkMask = chunkSize - 1;
+		this.chunks = new Object[4][];
+	}
+
+
+	/** Constructs a list containing the elements of the specified collection,
+	 * in the order they are returned by the collection's iterator.
+	 * @param c the collection whose elements are to be placed into this list
+	 */
+	public ChunkedList(Collection<? extends E> c) {
+		this();
+		addAll(c);
+	}
+
+
+	/**
+	 * @return the number of elements per chunk
+	 */
+	public int chunkSize() {
+		return chunkMask + 1;
+	}
+
+
+	/** Releases chunks which are not needed to store this list's current elements
+	 */
+	public void trimToSize() {
+		modCount++;
+		int needed = (size + chunkMask) >>> chunkShift;
+		for(int c = needed; c < chunkCount; c++) {
+			chunks[c] = null;
+		}
+		chunkCount = needed;
+		if(chunks.length > needed + 4) {
+			chunks = Arrays.copyOf(chunks, needed + 4);
+		}
+	}
+
+
+	/** Allocates chunks, if necessary, to ensure that this list can hold at least the specified number of elements
+	 * @param minCapacity the desired minimum capacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		int needed = (int)(((long)minCapacity + chunkMask) >>> chunkShift);
+		while(chunkCount < needed) {
+			addChunk();
+		}
+	}
+
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Objects.checkIndex(index, size);
+		return (E)chunks[index >>> chunkShift][index & chunkMask];
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E element) {
+		Objects.checkIndex(index, size);
+		Object[] chunk = chunks[index >>> chunkShift];
+		E oldValue = (E)chunk[index & chunkMask];
+		chunk[index & chunkMask] = element;
+		return oldValue;
+	}
+
+
+	@Override
+	public boolean add(E e) {
+		modCount++;
+		int s = size;
+		if((s >>> chunkShift) == chunkCount) {
+			addChunk();
+		}
+		chunks[s >>> chunkShift][s & chunkMask] = e;
+		size = s + 1;
+		return true;
+	}
+
+
+	@Override
+	public void add(int index, E element) {
+		rangeCheckForAdd(index);
+		add(null);
+		moveElements(index, index + 1, size - 1 - index);
+		chunks[index >>> chunkShift][index & chunkMask] = element;
+	}
+
+
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		Object[] a = c.toArray();
+		modCount++;
+		int numNew = a.length;
+		if(numNew == 0) {
+			return false;
+		}
+		ensureCapacity(size + numNew);
+		copyIn(a, 0, size, numNew);
+		size += numNew;
+		return true;
+	}
+
+
+	@Override
+	public boolean addAll(int index, Collection<? extends E> c) {
+		rangeCheckForAdd(index);
+		Object[] a = c.toArray();
+		modCount++;
+		int numNew = a.length;
+		if(numNew == 0) {
+			return false;
+		}
+		int s = size;
+		ensureCapacity(s + numNew);
+		size = s + numNew;
+		moveElements(index, index + numNew, s - index);
+		copyIn(a, 0, index, numNew);
+		return true;
+	}
+
+
+	@Override
+	public E remove(int index) {
+		E oldValue = get(index);
+		modCount++;
+		moveElements(index + 1, index, size - index - 1);
+		int last = --size;
+		chunks[last >>> chunkShift][last & chunkMask] = null;
+		return oldValue;
+	}
+
+
+	@Override
+	public boolean remove(Object o) {
+		int i = indexOf(o);
+		if(i < 0) {
+			return false;
+		}
+		remove(i);
+		return true;
+	}
+
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		if(fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+		}
+		modCount++;
+		int s = size;
+		moveElements(toIndex, fromIndex, s - toIndex);
+		int newSize = s - (toIndex - fromIndex);
+		clearElements(newSize, s);
+		size = newSize;
+	}
+
+
+	/** Removes all of the elements from this list, allocated chunks are retained, see {@link #trimToSize()}
+	 */
+	@Override
+	public void clear() {
+		modCount++;
+		clearElements(0, size);
+		size = 0;
+	}
+
+
+	@Override
+	public int indexOf(Object o) {
+		for(int c = 0, start = 0; start < size; c++, start += chunkMask + 1) {
+			Object[] chunk = chunks[c];
+			int n = Math.min(chunkMask + 1, size - start);
+			for(int i = 0; i < n; i++) {
+				if(o == null ? chunk[i] == null : o.equals(chunk[i])) {
+					return start + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	@Override
+	public int lastIndexOf(Object o) {
+		for(int i = size - 1; i >= 0; ) {
+			Object[] chunk = chunks[i >>> chunkShift];
+			// search backward to the start of the chunk, leaving 'i' at the last index of the previous chunk
+			for(int j = i & chunkMask; j >= 0; j--, i--) {
+				if(o == null ? chunk[j] == null : o.equals(chunk[j])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+
+	@Override
+	public Object[] toArray() {
+		Object[] res = new Object[size];
+		copyOut(0, res, 0, size);
+		return res;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if(a.length < size) {
+			a = (T[])Array.newInstance(a.getClass().getComponentType(), size);
+		}
+		copyOut(0, a, 0, size);
+		if(a.length > size) {
+			a[size] = null;
+		}
+		return a;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		final int expectedModCount = modCount;
+		final int size = this.size;
+		for(int c = 0, start = 0; start < size && modCount == expectedModCount; c++, start += chunkMask + 1) {
+			Object[] chunk = chunks[c];
+			for(int i = 0, n = Math.min(chunkMask + 1, size - start); i < n; i++) {
+				action.accept((E)chunk[i]);
+			}
+		}
+		if(modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+
+	protected void addChunk() {
+		if(chunkCount == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunkCount + (chunkCount >> 1) + 4);
+		}
+		chunks[chunkCount++] = new Object[chunkMask + 1];
+	}
+
+
+	/** Move {@code len} elements from index {@code src} to index {@code dst}, the source and destination ranges may overlap.
+	 * Both ranges must be within the list's allocated chunks.
+	 */
+	protected void moveElements(int src, int dst, int len) {
+		final int shift = chunkShift;
+		final int mask = chunkMask;
+		if(dst < src) {
+			while(len > 0) {
+				int so = src & mask;
+				int dOff = dst & mask;
+				int n = Math.min(len, (mask + 1) - Math.max(so, dOff));
+				System.arraycopy(chunks[src >>> shift], so, chunks[dst >>> shift], dOff, n);
+				src += n;
+				dst += n;
+				len -= n;
+			}
+		}
+		else if(dst > src) {
+			// copy backward from the end so overlapping elements are not overwritten before they are moved
+			int srcEnd = src + len;
+			int dstEnd = dst + len;
+			while(len > 0) {
+				int so = (srcEnd - 1) & mask;
+				int dOff = (dstEnd - 1) & mask;
+				int n = Math.min(len, Math.min(so, dOff) + 1);
+				System.arraycopy(chunks[(srcEnd - 1) >>> shift], so - n + 1, chunks[(dstEnd - 1) >>> shift], dOff - n + 1, n);
+				srcEnd -= n;
+				dstEnd -= n;
+				len -= n;
+			}
+		}
+	}
+
+
+	/** Copy elements from an array into this list's chunks starting at list index {@code dst}
+	 */
+	protected void copyIn(Object[] a, int off, int dst, int len) {
+		while(len > 0) {
+			int dOff = dst & chunkMask;
+			int n = Math.min(len, (chunkMask + 1) - dOff);
+			System.arraycopy(a, off, chunks[dst >>> chunkShift], dOff, n);
+			off += n;
+			dst += n;
+			len -= n;
+		}
+	}
+
+
+	/** Copy elements starting at list index {@code src} from this list's chunks into an array
+	 */
+	protected void copyOut(int src, Object[] a, int off, int len) {
+		while(len > 0) {
+			int so = src & chunkMask;
+			int n = Math.min(len, (chunkMask + 1) - so);
+			System.arraycopy(chunks[src >>> chunkShift], so, a, off, n);
+			off += n;
+			src += n;
+			len -= n;
+		}
+	}
+
+
+	/** Null out the elements in the range {@code [from, to)} so they can be garbage collected
+	 */
+	protected void clearElements(int from, int to) {
+		while(from < to) {
+			int so = from & chunkMask;
+			int n = Math.min(to - from, (chunkMask + 1) - so);
+			Arrays.fill(chunks[from >>> chunkShift], so, so + n, null);
+			from += n;
+		}
+	}
+
+
+	protected void rangeCheckForAdd(int index) {
+		if(index > size || index < 0) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+}
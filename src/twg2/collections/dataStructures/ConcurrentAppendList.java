@@ -0,0 +1,381 @@
+package twg2.collections.dataStructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import twg2.collections.interfaces.ListReadOnly;
+
+/** A lock-free, append-only list for many concurrent writers and readers (i.e. an event log).<br>
+ * Elements are stored in chunks which double in size (chunk {@code k} holds {@code firstChunkSize * 2^k} elements), so the
+ * chunk directory has a fixed length, existing elements are never copied, and a missing chunk is installed with a single CAS.<br>
+ * Writers reserve slots with a compare-and-set of the reserved count ({@link #add(Object)} reserves one slot, {@link #addAll(Collection)} reserves
+ * a contiguous block, a reservation which would exceed the list's capacity claims nothing), store their elements with volatile (release) writes, and then advance the published watermark
+ * past every contiguous written slot. A writer which finishes before an earlier reserved slot is written leaves the watermark for
+ * the earlier slot's writer to advance, so the watermark never exposes an unwritten slot.<br>
+ * Readers never lock, {@link #size()} returns the published watermark and {@link #get(int)}, {@link #iterator()}, and the other
+ * read methods only read elements below the watermark they observed, so a reader always sees a consistent prefix of the log.<br>
+ * Does not permit {@code null} elements.
+ * @param <E> the type of elements in this list
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ConcurrentAppendList<E> implements ListReadOnly<E> {
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+	private static final VarHandle CHUNKS = MethodHandles.arrayElementVarHandle(Object[][].class);
+	/** Default first chunk size is 2^6 = 64 elements */
+	protected static final int DEFAULT_FIRST_CHUNK_SHIFT = 6;
+
+	/** log2 of the number of elements in the first chunk */
+	protected final int firstChunkShift;
+	/** The maximum number of elements this list can contain */
+	protected final int maxSize;
+	/** The chunks containing this list's elements, allocated on demand */
+	protected final Object[][] chunks;
+	/** The number of reserved slots, some of which may not be written yet */
+	protected final AtomicInteger reserved = new AtomicInteger();
+	/** The published watermark, all slots below this index are written and visible to readers */
+	protected final AtomicInteger published = new AtomicInteger();
+
+
+	/** Constructs an empty list with a first chunk size of 64
+	 */
+	public ConcurrentAppendList() {
+		this(1 << DEFAULT_FIRST_CHUNK_SHIFT);
+	}
+
+
+	/** Constructs an empty list with the specified first chunk size
+	 * @param firstChunkSize the number of elements in the first chunk, must be a power of two,
+	 * each additional chunk is twice the size of the previous chunk
+	 * @throws IllegalArgumentException if {@code firstChunkSize} is not a positive power of two
+	 */
+	public ConcurrentAppendList(int firstChunkSize) {
+		if(firstChunkSize < 1 || Integer.bitCount(firstChunkSize) != 1 || firstChunkSize > (1 << 30)) {
+			throw new IllegalArgumentException("first chunk size must be a power of two: " + firstChunkSize);
+		}
+		this.firstChunkShift = Integer.numberOfTrailingZeros(firstChunkSize);
+		this.maxSize = Integer.MAX_VALUE - firstChunkSize + 1;
+		this.chunks = new Object[31 - firstChunkShift][];
+	}
+
+
+	/** Appends an element to the end of this list, the element is visible to readers once every
+	 * element appended before it has also been written.
+	 * @param e the element to append
+	 * @return the index of the element
+	 * @throws NullPointerException if {@code e} is null
+	 * @throws IllegalStateException if this list is full
+	 */
+	public int add(E e) {
+		Objects.requireNonNull(e);
+		int i = reserve(1);
+		store(i, e);
+		publish();
+		return i;
+	}
+
+
+	/** Appends all of the elements of a collection to the end of this list as a contiguous block
+	 * @param c the elements to append
+	 * @return the index of the first appended element, or -1 if the collection was empty
+	 * @throws NullPointerException if the collection contains a null element
+	 * @throws IllegalStateException if this list does not have room for the elements
+	 */
+	public int addAll(Collection<? extends E> c) {
+		Object[] a = c.toArray();
+		int n = a.length;
+		if(n == 0) {
+			return -1;
+		}
+		for(int j = 0; j < n; j++) {
+			Objects.requireNonNull(a[j]);
+		}
+		int i = reserve(n);
+		for(int j = 0; j < n; j++) {
+			store(i + j, a[j]);
+		}
+		publish();
+		return i;
+	}
+
+
+	/**
+	 * @return the published watermark, the number of elements visible to readers
+	 */
+	@Override
+	public int size() {
+		return published.get();
+	}
+
+
+	@Override
+	public boolean isEmpty() {
+		return published.get() == 0;
+	}
+
+
+	/**
+	 * @return the number of reserved slots, including slots which are not yet written or published
+	 */
+	public int reservedSize() {
+		return reserved.get();
+	}
+
+
+	/** Returns the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is not less than the published watermark
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Objects.checkIndex(index, published.get());
+		int k = chunkIndex(index);
+		return (E)chunks[k][chunkOffset(index, k)];
+	}
+
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+
+	@Override
+	public int indexOf(Object o) {
+		if(o == null) {
+			return -1;
+		}
+		final int end = published.get();
+		for(int k = 0, start = 0; start < end; start += chunkSize(k), k++) {
+			Object[] chunk = chunks[k];
+			for(int i = 0, n = Math.min(chunk.length, end - start); i < n; i++) {
+				if(o.equals(chunk[i])) {
+					return start + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	@Override
+	public int lastIndexOf(Object o) {
+		if(o == null) {
+			return -1;
+		}
+		for(int i = published.get() - 1; i >= 0; i--) {
+			int k = chunkIndex(i);
+			if(o.equals(chunks[k][chunkOffset(i, k)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	@Override
+	public Object[] toArray() {
+		final int end = published.get();
+		Object[] res = new Object[end];
+		copyTo(res, end);
+		return res;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		final int end = published.get();
+		if(a.length < end) {
+			a = (T[])java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), end);
+		}
+		copyTo(a, end);
+		if(a.length > end) {
+			a[end] = null;
+		}
+		return a;
+	}
+
+
+	/** Performs the given action for each element below the watermark observed when this method is called
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		final int end = published.get();
+		for(int k = 0, start = 0; start < end; start += chunkSize(k), k++) {
+			Object[] chunk = chunks[k];
+			for(int i = 0, n = Math.min(chunk.length, end - start); i < n; i++) {
+				action.accept((E)chunk[i]);
+			}
+		}
+	}
+
+
+	/** Returns an iterator over the elements below the watermark observed when this method is called,
+	 * elements published afterward are not returned
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new AppendListIterator(published.get());
+	}
+
+
+	@Override
+	public Spliterator<E> spliterator() {
+		int end = published.get();
+		return Spliterators.spliterator(new AppendListIterator(end), end, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+	}
+
+
+	public Stream<E> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		int i = 0;
+		for(E e : this) {
+			if(i > 0) {
+				sb.append(", ");
+			}
+			sb.append(e);
+			i++;
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+
+
+	/** Reserve {@code n} contiguous slots
+	 * @return the index of the first reserved slot
+	 */
+	protected int reserve(int n) {
+		for(;;) {
+			int i = reserved.get();
+			// check the capacity before claiming the slots, a rejected reservation must not leave unwritten slots below later ones
+			if(i > maxSize - n) {
+				throw new IllegalStateException("list capacity exceeded, max size " + maxSize);
+			}
+			if(reserved.compareAndSet(i, i + n)) {
+				return i;
+			}
+		}
+	}
+
+
+	/** Write an element to a reserved slot, allocating the slot's chunk if necessary
+	 */
+	protected void store(int index, Object e) {
+		int k = chunkIndex(index);
+		Object[] chunk = (Object[])CHUNKS.getAcquire(chunks, k);
+		if(chunk == null) {
+			chunk = new Object[chunkSize(k)];
+			if(!CHUNKS.compareAndSet(chunks, k, null, chunk)) {
+				chunk = (Object[])CHUNKS.getAcquire(chunks, k);
+			}
+		}
+		// a volatile (rather than release) write so that writers which finish out of order always observe each other's slots in publish()
+		ELEMENTS.setVolatile(chunk, chunkOffset(index, k), e);
+	}
+
+
+	/** Advance the published watermark past every contiguous written slot
+	 */
+	protected void publish() {
+		for(;;) {
+			final int w = published.get();
+			final int limit = reserved.get();
+			int end = w;
+			while(end < limit && isWritten(end)) {
+				end++;
+			}
+			if(end == w || published.compareAndSet(w, end)) {
+				return;
+			}
+		}
+	}
+
+
+	private boolean isWritten(int index) {
+		int k = chunkIndex(index);
+		Object[] chunk = (Object[])CHUNKS.getVolatile(chunks, k);
+		return chunk != null && ELEMENTS.getVolatile(chunk, chunkOffset(index, k)) != null;
+	}
+
+
+	private void copyTo(Object[] dst, int end) {
+		for(int k = 0, start = 0; start < end; start += chunkSize(k), k++) {
+			System.arraycopy(chunks[k], 0, dst, start, Math.min(chunkSize(k), end - start));
+		}
+	}
+
+
+	/** The chunk containing an index, chunk {@code k} contains indices {@code [firstChunkSize * (2^k - 1), firstChunkSize * (2^(k+1) - 1))}
+	 */
+	protected final int chunkIndex(int index) {
+		return 31 - Integer.numberOfLeadingZeros(index + (1 << firstChunkShift)) - firstChunkShift;
+	}
+
+
+	protected final int chunkOffset(int index, int chunkIdx) {
+		return index + (1 << firstChunkShift) - (1 << (chunkIdx + firstChunkShift));
+	}
+
+
+	protected final int chunkSize(int chunkIdx) {
+		return 1 << (chunkIdx + firstChunkShift);
+	}
+
+
+
+
+	/** Iterates over a fixed range of published elements, one chunk at a time
+	 */
+	private final class AppendListIterator implements Iterator<E> {
+		private final int end;
+		private int index;
+		private int chunkIdx;
+		private int offset;
+
+		AppendListIterator(int end) {
+			this.end = end;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < end;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if(index >= end) {
+				throw new NoSuchElementException();
+			}
+			Object[] chunk = chunks[chunkIdx];
+			E e = (E)chunk[offset];
+			index++;
+			if(++offset == chunk.length) {
+				chunkIdx++;
+				offset = 0;
+			}
+			return e;
+		}
+	}
+
+}
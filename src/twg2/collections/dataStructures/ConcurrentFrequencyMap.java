@@ -0,0 +1,176 @@
+package twg2.collections.dataStructures;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+
+import twg2.simpleTypes.ioPrimitives.JNumericType;
+
+/** A thread-safe frequency map which many threads can update at the same time, for counting without per-thread maps which must be merged by hand.<br>
+ * Each key's count is a {@link LongAdder}, which spreads concurrent updates of the same (hot) key across striped cells,
+ * so threads incrementing the same key rarely contend. Keys are stored in a {@link ConcurrentHashMap} and updating
+ * an existing key does not lock.<br>
+ * Reading a count sums the key's cells. The result is exact when no updates are in progress, but it is not an atomic
+ * snapshot during concurrent updates. {@link #snapshot()} copies every count into a regular {@link FrequencyMap}. Each count
+ * is read once, so the snapshot contains every update which completed before the call. Updates which happen during the call
+ * may or may not be included.<br>
+ * An update to a key which races with {@link #remove(Object)} of the same key may be lost along with the removed count.
+ * Null keys are not permitted.
+ * @param <K> the type of keys in this map
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ConcurrentFrequencyMap<K> {
+	private static final Function<Object, LongAdder> NEW_ADDER = (k) -> new LongAdder();
+
+	private final ConcurrentHashMap<K, LongAdder> frequencies;
+
+
+	public ConcurrentFrequencyMap() {
+		this.frequencies = new ConcurrentHashMap<>();
+	}
+
+
+	/**
+	 * @param expectedSize the number of keys the map should hold without resizing
+	 */
+	public ConcurrentFrequencyMap(int expectedSize) {
+		this.frequencies = new ConcurrentHashMap<>(expectedSize);
+	}
+
+
+	public boolean contains(K key) {
+		return frequencies.containsKey(key);
+	}
+
+
+	public int size() {
+		return frequencies.size();
+	}
+
+
+	public boolean isEmpty() {
+		return frequencies.isEmpty();
+	}
+
+
+	/**
+	 * @return the key's current count, 0 if the key is not in this map
+	 */
+	public long get(K key) {
+		LongAdder count = frequencies.get(key);
+		return count != null ? count.sum() : 0;
+	}
+
+
+	/** Remove a key from this map
+	 * @return the key's count when it was removed, 0 if the key was not in this map
+	 */
+	public long remove(K key) {
+		LongAdder count = frequencies.remove(key);
+		return count != null ? count.sum() : 0;
+	}
+
+
+	/** Remove all keys from this map, keys added concurrently with this call may remain
+	 */
+	public void clear() {
+		frequencies.clear();
+	}
+
+
+	public void increment(K key) {
+		counter(key).increment();
+	}
+
+
+	public void decrement(K key) {
+		counter(key).decrement();
+	}
+
+
+	public void add(K key, long value) {
+		counter(key).add(value);
+	}
+
+
+	public void subtract(K key, long value) {
+		counter(key).add(-value);
+	}
+
+
+	/**
+	 * @return the sum of all of the counts in this map
+	 */
+	public long total() {
+		long sum = 0;
+		for(LongAdder count : frequencies.values()) {
+			sum += count.sum();
+		}
+		return sum;
+	}
+
+
+	/** Call an action for each key and its current count in this map, the keys are visited in the same weakly consistent
+	 * order as {@link ConcurrentHashMap} iteration
+	 */
+	public void forEach(ObjLongConsumer<? super K> action) {
+		Objects.requireNonNull(action);
+		for(Map.Entry<K, LongAdder> entry : frequencies.entrySet()) {
+			action.accept(entry.getKey(), entry.getValue().sum());
+		}
+	}
+
+
+	/** Copy this map's counts into a new {@link FrequencyMap} with {@code long} frequencies
+	 * @see #snapshot(JNumericType)
+	 */
+	public FrequencyMap<K, Long> snapshot() {
+		return snapshot(JNumericType.LONG);
+	}
+
+
+	/** Copy this map's counts into a new {@link FrequencyMap}, each key's count is read once while other threads may
+	 * continue updating this map (see the class documentation)
+	 * @param frequencyType the numeric type of the returned map's frequencies, counts are narrowed to this type
+	 */
+	public <V extends Number> FrequencyMap<K, V> snapshot(JNumericType frequencyType) {
+		FrequencyMap<K, V> snapshot = new FrequencyMap<>(frequencyType);
+		@SuppressWarnings("unchecked")
+		Class<V> primitiveType = (Class<V>)frequencyType.getType();
+		Map<K, V> dst = snapshot.getRawFrequencyMap();
+		for(Map.Entry<K, LongAdder> entry : frequencies.entrySet()) {
+			dst.put(entry.getKey(), FrequencyMap.ofLong(primitiveType, frequencyType, entry.getValue().sum()));
+		}
+		return snapshot;
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		forEach((k, c) -> {
+			if(sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(k).append('=').append(c);
+		});
+		return sb.append('}').toString();
+	}
+
+
+	/** Get the key's counter, adding it if it is not in this map. Existing keys only need a lock-free {@code get()}
+	 */
+	private LongAdder counter(K key) {
+		LongAdder count = frequencies.get(key);
+		if(count == null) {
+			count = frequencies.computeIfAbsent(key, NEW_ADDER);
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,741 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import twg2.collections.util.PrimitiveScans;
+
+/** A resizable {@code double} array list with the same semantics as {@link BaseList} but without boxing.<br>
+ * {@link #get(int)}, {@link #set(int, double)}, and {@link #add(double)} (amortized) run in constant time, inserting or removing
+ * values shifts the values after the index like {@link BaseList}. {@link #subList(int, int)} returns a view which writes
+ * through to this list and is invalidated (throws {@link ConcurrentModificationException}) if this list is structurally
+ * modified other than through the view.<br>
+ * Since the value overloads would conflict with the index overloads, {@link #remove(int)} removes by index and
+ * {@link #removeValue(double)} removes by value.<br>
+ * The search and aggregate methods ({@link #indexOf(double)}, {@link #count(double)}, {@link #min()}, {@link #sum()}, etc.) use the
+ * unrolled loops in {@link PrimitiveScans}.<br>
+ * This class is not thread-safe.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class DoubleList implements RandomAccess {
+	private static final double[] EMPTY_ARY = new double[0];
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private double[] elements;
+	private int size;
+	/** The number of structural modifications, used by sub-lists and iterators to detect concurrent modification */
+	private int modCount;
+
+
+	/** Create an empty list with an initial capacity of ten
+	 */
+	public DoubleList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+
+	/** Create an empty list
+	 * @param initialCapacity the initial capacity of the list
+	 * @throws IllegalArgumentException if the initial capacity is negative
+	 */
+	public DoubleList(int initialCapacity) {
+		if(initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+		this.elements = (initialCapacity == 0 ? EMPTY_ARY : new double[initialCapacity]);
+	}
+
+
+	/** Create a list containing a copy of the specified values
+	 */
+	public DoubleList(double[] values) {
+		this.elements = (values.length == 0 ? EMPTY_ARY : values.clone());
+		this.size = values.length;
+	}
+
+
+	public static DoubleList of(double... values) {
+		return new DoubleList(values);
+	}
+
+
+	public int size() {
+		return size;
+	}
+
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	public double get(int index) {
+		Objects.checkIndex(index, size);
+		return elements[index];
+	}
+
+
+	/** Replace the value at the specified index
+	 * @return the previous value at the index
+	 */
+	public double set(int index, double value) {
+		Objects.checkIndex(index, size);
+		double oldValue = elements[index];
+		elements[index] = value;
+		return oldValue;
+	}
+
+
+	/** Append a value to the end of this list
+	 */
+	public boolean add(double value) {
+		modCount++;
+		int s = size;
+		if(s == elements.length) {
+			grow(s + 1);
+		}
+		elements[s] = value;
+		size = s + 1;
+		return true;
+	}
+
+
+	/** Insert a value at the specified index, shifting the value at the index (if any) and subsequent values to the right
+	 */
+	public void add(int index, double value) {
+		rangeCheckForAdd(index, size);
+		modCount++;
+		int s = size;
+		if(s == elements.length) {
+			grow(s + 1);
+		}
+		System.arraycopy(elements, index, elements, index + 1, s - index);
+		elements[index] = value;
+		size = s + 1;
+	}
+
+
+	/** Append values to the end of this list
+	 */
+	public void addAll(double[] values) {
+		addAll(size, values, 0, values.length);
+	}
+
+
+	/** Append values from another list to the end of this list
+	 */
+	public void addAll(DoubleList list) {
+		addAll(size, list.elements, 0, list.size);
+	}
+
+
+	/** Insert {@code len} values from {@code values} starting at {@code off} into this list at the specified index
+	 */
+	public void addAll(int index, double[] values, int off, int len) {
+		rangeCheckForAdd(index, size);
+		Objects.checkFromIndexSize(off, len, values.length);
+		modCount++;
+		if(len == 0) {
+			return;
+		}
+		int s = size;
+		if(len > elements.length - s) {
+			grow(s + len);
+		}
+		// the source may be this list's own array, copy the source values before they are shifted
+		if(values == elements) {
+			values = Arrays.copyOfRange(values, off, off + len);
+			off = 0;
+		}
+		System.arraycopy(elements, index, elements, index + len, s - index);
+		System.arraycopy(values, off, elements, index, len);
+		size = s + len;
+	}
+
+
+	/** Remove the value at the specified index, shifting subsequent values to the left
+	 * @return the removed value
+	 */
+	public double remove(int index) {
+		Objects.checkIndex(index, size);
+		double oldValue = elements[index];
+		modCount++;
+		int newSize = size - 1;
+		if(newSize > index) {
+			System.arraycopy(elements, index + 1, elements, index, newSize - index);
+		}
+		size = newSize;
+		return oldValue;
+	}
+
+
+	/** Remove the first occurrence of a value from this list
+	 * @return true if the value was found and removed
+	 */
+	public boolean removeValue(double value) {
+		int idx = indexOf(value);
+		if(idx < 0) {
+			return false;
+		}
+		remove(idx);
+		return true;
+	}
+
+
+	/** Remove the values in the range {@code [fromIndex, toIndex)}, shifting subsequent values to the left
+	 * @throws IndexOutOfBoundsException if the range is not within {@code [0, size()]}
+	 */
+	public void removeRange(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		modCount++;
+		System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+
+
+	/** Remove all values from this list, the capacity is unchanged
+	 */
+	public void clear() {
+		modCount++;
+		size = 0;
+	}
+
+
+	public boolean contains(double value) {
+		return indexOf(value) >= 0;
+	}
+
+
+	/**
+	 * @return the index of the first occurrence of the value in this list, or -1 if this list does not contain the value
+	 */
+	public int indexOf(double value) {
+		return PrimitiveScans.indexOf(elements, 0, size, value);
+	}
+
+
+	/**
+	 * @return the index of the last occurrence of the value in this list, or -1 if this list does not contain the value
+	 */
+	public int lastIndexOf(double value) {
+		return PrimitiveScans.lastIndexOf(elements, 0, size, value);
+	}
+
+
+	/**
+	 * @return the number of occurrences of the value in this list
+	 */
+	public int count(double value) {
+		return PrimitiveScans.count(elements, 0, size, value);
+	}
+
+
+	/**
+	 * @return the minimum value in this list
+	 * @throws NoSuchElementException if this list is empty
+	 */
+	public double min() {
+		return PrimitiveScans.min(elements, 0, size);
+	}
+
+
+	/**
+	 * @return the maximum value in this list
+	 * @throws NoSuchElementException if this list is empty
+	 */
+	public double max() {
+		return PrimitiveScans.max(elements, 0, size);
+	}
+
+
+	/**
+	 * @return the sum of the values in this list, see {@link PrimitiveScans#sum(double[], int, int)}
+	 */
+	public double sum() {
+		return PrimitiveScans.sum(elements, 0, size);
+	}
+
+
+	/**
+	 * @return the indices, in ascending order, of the values in this list which are between {@code min} and {@code max} inclusive
+	 */
+	public int[] indicesInRange(double min, double max) {
+		return PrimitiveScans.indicesInRange(elements, 0, size, min, max);
+	}
+
+
+	/** Sort this list into ascending numerical order,
+	 * {@code -0.0} sorts before {@code 0.0} and {@code NaN} sorts last, see {@link Arrays#sort(double[])}
+	 */
+	public void sort() {
+		sort(0, size);
+	}
+
+
+	/** Sort the values in the range {@code [fromIndex, toIndex)} into ascending numerical order
+	 */
+	public void sort(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		Arrays.sort(elements, fromIndex, toIndex);
+		modCount++;
+	}
+
+
+	/** Search this list, which must be sorted (see {@link #sort()}), for a value using binary search
+	 * @return the index of the value, or {@code (-(insertion point) - 1)} if the value is not in this list, see {@link Arrays#binarySearch(double[], double)}
+	 */
+	public int binarySearch(double value) {
+		return Arrays.binarySearch(elements, 0, size, value);
+	}
+
+
+	/** Search the range {@code [fromIndex, toIndex)} of this list, which must be sorted, for a value using binary search
+	 * @return the index of the value, or {@code (-(insertion point) - 1)} if the value is not in the range
+	 */
+	public int binarySearch(int fromIndex, int toIndex, double value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		return Arrays.binarySearch(elements, fromIndex, toIndex, value);
+	}
+
+
+	/** Increase the capacity of this list, if necessary, so that it can hold at least {@code minCapacity} values without growing
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if(minCapacity > elements.length) {
+			modCount++;
+			grow(minCapacity);
+		}
+	}
+
+
+	/** Trim the capacity of this list to its current size
+	 */
+	public void trimToSize() {
+		if(size < elements.length) {
+			modCount++;
+			elements = (size == 0 ? EMPTY_ARY : Arrays.copyOf(elements, size));
+		}
+	}
+
+
+	/** Returns this list's backing array without copying it, values {@code [0, size())} are this list's values in order.
+	 * The array is replaced when this list grows, so it is only valid until this list is next modified.
+	 * @return this list's backing array
+	 */
+	public double[] getRawArray() {
+		return elements;
+	}
+
+
+	/**
+	 * @return a new array containing the values in this list
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+
+	public void forEach(DoubleConsumer action) {
+		Objects.requireNonNull(action);
+		final int expectedModCount = modCount;
+		final double[] es = elements;
+		final int s = size;
+		for(int i = 0; modCount == expectedModCount && i < s; i++) {
+			action.accept(es[i]);
+		}
+		if(modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+
+	/**
+	 * @return a fail-fast iterator over the values in this list
+	 */
+	public PrimitiveIterator.OfDouble iterator() {
+		return new Iter(this, 0, size);
+	}
+
+
+	/** Returns a spliterator over the values in this list which binds to this list's array and size when this method is called,
+	 * the list should not be structurally modified while the spliterator is in use
+	 */
+	public Spliterator.OfDouble spliterator() {
+		return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+	}
+
+
+	/**
+	 * @return a sequential stream of the values in this list
+	 */
+	public DoubleStream stream() {
+		return StreamSupport.doubleStream(spliterator(), false);
+	}
+
+
+	/**
+	 * @return a parallel stream of the values in this list
+	 */
+	public DoubleStream parallelStream() {
+		return StreamSupport.doubleStream(spliterator(), true);
+	}
+
+
+	/** Returns a view of the range {@code [fromIndex, toIndex)} of this list, changes to the view write through to this list.
+	 * The view becomes invalid if this list is structurally modified other than through the view.
+	 * @throws IndexOutOfBoundsException if the range is not within {@code [0, size()]}
+	 */
+	public SubList subList(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		return new SubList(this, null, fromIndex, toIndex);
+	}
+
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj == this) {
+			return true;
+		}
+		if(!(obj instanceof DoubleList)) {
+			return false;
+		}
+		DoubleList other = (DoubleList)obj;
+		return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+	}
+
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(int i = 0, s = size; i < s; i++) {
+			hash = 31 * hash + Double.hashCode(elements[i]);
+		}
+		return hash;
+	}
+
+
+	@Override
+	public String toString() {
+		return toString(elements, 0, size);
+	}
+
+
+	private void grow(int minCapacity) {
+		int oldCapacity = elements.length;
+		int newCapacity = oldCapacity + (oldCapacity >> 1);
+		if(newCapacity - minCapacity <= 0) {
+			if(elements == EMPTY_ARY) {
+				newCapacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+			}
+			else if(minCapacity < 0) {
+				throw new OutOfMemoryError();
+			}
+			else {
+				newCapacity = minCapacity;
+			}
+		}
+		else if(newCapacity - MAX_ARRAY_SIZE > 0) {
+			newCapacity = (minCapacity > MAX_ARRAY_SIZE ? Integer.MAX_VALUE : MAX_ARRAY_SIZE);
+		}
+		elements = Arrays.copyOf(elements, newCapacity);
+	}
+
+
+	private static void rangeCheckForAdd(int index, int size) {
+		if(index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+
+	private static String toString(double[] es, int start, int end) {
+		if(start == end) {
+			return "[]";
+		}
+		StringBuilder sb = new StringBuilder((end - start) * 4);
+		sb.append('[');
+		for(int i = start; i < end; i++) {
+			if(i > start) {
+				sb.append(", ");
+			}
+			sb.append(es[i]);
+		}
+		return sb.append(']').toString();
+	}
+
+
+
+
+	/** A view of a range of a {@link DoubleList}, see {@link DoubleList#subList(int, int)}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static class SubList implements RandomAccess {
+		private final DoubleList root;
+		private final SubList parent;
+		private final int offset;
+		private int size;
+		private int modCount;
+
+
+		SubList(DoubleList root, SubList parent, int fromIndex, int toIndex) {
+			this.root = root;
+			this.parent = parent;
+			this.offset = (parent != null ? parent.offset : 0) + fromIndex;
+			this.size = toIndex - fromIndex;
+			this.modCount = root.modCount;
+		}
+
+
+		public int size() {
+			checkModCount();
+			return size;
+		}
+
+
+		public boolean isEmpty() {
+			return size() == 0;
+		}
+
+
+		public double get(int index) {
+			Objects.checkIndex(index, size);
+			checkModCount();
+			return root.elements[offset + index];
+		}
+
+
+		public double set(int index, double value) {
+			Objects.checkIndex(index, size);
+			checkModCount();
+			double[] es = root.elements;
+			double oldValue = es[offset + index];
+			es[offset + index] = value;
+			return oldValue;
+		}
+
+
+		public boolean add(double value) {
+			add(size, value);
+			return true;
+		}
+
+
+		public void add(int index, double value) {
+			rangeCheckForAdd(index, size);
+			checkModCount();
+			root.add(offset + index, value);
+			updateSizeAndModCount(1);
+		}
+
+
+		public double remove(int index) {
+			Objects.checkIndex(index, size);
+			checkModCount();
+			double oldValue = root.remove(offset + index);
+			updateSizeAndModCount(-1);
+			return oldValue;
+		}
+
+
+		public void removeRange(int fromIndex, int toIndex) {
+			Objects.checkFromToIndex(fromIndex, toIndex, size);
+			checkModCount();
+			root.removeRange(offset + fromIndex, offset + toIndex);
+			updateSizeAndModCount(fromIndex - toIndex);
+		}
+
+
+		public void clear() {
+			removeRange(0, size);
+		}
+
+
+		public int indexOf(double value) {
+			checkModCount();
+			int idx = PrimitiveScans.indexOf(root.elements, offset, offset + size, value);
+			return idx >= 0 ? idx - offset : -1;
+		}
+
+
+		public int lastIndexOf(double value) {
+			checkModCount();
+			int idx = PrimitiveScans.lastIndexOf(root.elements, offset, offset + size, value);
+			return idx >= 0 ? idx - offset : -1;
+		}
+
+
+		public int count(double value) {
+			checkModCount();
+			return PrimitiveScans.count(root.elements, offset, offset + size, value);
+		}
+
+
+		public double min() {
+			checkModCount();
+			return PrimitiveScans.min(root.elements, offset, offset + size);
+		}
+
+
+		public double max() {
+			checkModCount();
+			return PrimitiveScans.max(root.elements, offset, offset + size);
+		}
+
+
+		public double sum() {
+			checkModCount();
+			return PrimitiveScans.sum(root.elements, offset, offset + size);
+		}
+
+
+		/**
+		 * @return the indices, relative to this sub-list, of the values which are between {@code min} and {@code max} inclusive
+		 */
+		public int[] indicesInRange(double min, double max) {
+			checkModCount();
+			int[] idxs = PrimitiveScans.indicesInRange(root.elements, offset, offset + size, min, max);
+			for(int i = 0; i < idxs.length; i++) {
+				idxs[i] -= offset;
+			}
+			return idxs;
+		}
+
+
+		public boolean contains(double value) {
+			return indexOf(value) >= 0;
+		}
+
+
+		public void sort() {
+			checkModCount();
+			root.sort(offset, offset + size);
+			updateSizeAndModCount(0);
+		}
+
+
+		public int binarySearch(double value) {
+			checkModCount();
+			int idx = Arrays.binarySearch(root.elements, offset, offset + size, value);
+			return idx >= 0 ? idx - offset : idx + offset;
+		}
+
+
+		public double[] toArray() {
+			checkModCount();
+			return Arrays.copyOfRange(root.elements, offset, offset + size);
+		}
+
+
+		public void forEach(DoubleConsumer action) {
+			Objects.requireNonNull(action);
+			checkModCount();
+			final double[] es = root.elements;
+			for(int i = offset, end = offset + size; i < end; i++) {
+				action.accept(es[i]);
+			}
+			checkModCount();
+		}
+
+
+		public PrimitiveIterator.OfDouble iterator() {
+			checkModCount();
+			return new Iter(root, offset, offset + size);
+		}
+
+
+		public Spliterator.OfDouble spliterator() {
+			checkModCount();
+			return Spliterators.spliterator(root.elements, offset, offset + size, Spliterator.ORDERED);
+		}
+
+
+		public DoubleStream stream() {
+			return StreamSupport.doubleStream(spliterator(), false);
+		}
+
+
+		public SubList subList(int fromIndex, int toIndex) {
+			Objects.checkFromToIndex(fromIndex, toIndex, size);
+			return new SubList(root, this, fromIndex, toIndex);
+		}
+
+
+		@Override
+		public String toString() {
+			checkModCount();
+			return DoubleList.toString(root.elements, offset, offset + size);
+		}
+
+
+		private void checkModCount() {
+			if(root.modCount != this.modCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+
+		private void updateSizeAndModCount(int sizeChange) {
+			SubList slist = this;
+			do {
+				slist.size += sizeChange;
+				slist.modCount = root.modCount;
+				slist = slist.parent;
+			} while(slist != null);
+		}
+
+	}
+
+
+
+
+	/** A fail-fast iterator over a range of a list's array
+	 */
+	private static final class Iter implements PrimitiveIterator.OfDouble {
+		private final DoubleList list;
+		private final int end;
+		private final int expectedModCount;
+		private int cursor;
+
+
+		Iter(DoubleList list, int start, int end) {
+			this.list = list;
+			this.cursor = start;
+			this.end = end;
+			this.expectedModCount = list.modCount;
+		}
+
+
+		@Override
+		public boolean hasNext() {
+			return cursor < end;
+		}
+
+
+		@Override
+		public double nextDouble() {
+			if(list.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			int i = cursor;
+			if(i >= end) {
+				throw new NoSuchElementException();
+			}
+			cursor = i + 1;
+			return list.elements[i];
+		}
+
+	}
+
+}
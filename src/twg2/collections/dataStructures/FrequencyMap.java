@@ -1,7 +1,13 @@
 package twg2.collections.dataStructures;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
 
 import twg2.simpleTypes.ioPrimitives.JNumericType;
 
@@ -89,6 +95,168 @@ public class FrequencyMap<K, V extends Number> {
 	}
 
 
+	/** Add another map's frequencies to this map's frequencies. Keys which are only in the other map are copied without re-boxing if both
+	 * maps have the same frequency type, keys in both maps are summed in this map's numeric type and boxed once.
+	 * Unlike calling {@link #add(Object, double)} per entry, integer frequencies are not converted to {@code double}.
+	 * @param other the map to merge into this map, not modified
+	 */
+	public void merge(FrequencyMap<? extends K, ? extends Number> other) {
+		boolean sameType = (other.frequencyType == this.frequencyType);
+		@SuppressWarnings("unchecked")
+		Class<V> primitiveType = (Class<V>)frequencyType.getType();
+		for(Map.Entry<? extends K, ? extends Number> entry : other.frequencies.entrySet()) {
+			Number add = entry.getValue();
+			if(add == null) {
+				continue;
+			}
+			V value = frequencies.get(entry.getKey());
+			if(value == null && sameType) {
+				@SuppressWarnings("unchecked")
+				V addValue = (V)add;
+				frequencies.put(entry.getKey(), addValue);
+			}
+			else {
+				frequencies.put(entry.getKey(), sum(primitiveType, frequencyType, value, add));
+			}
+		}
+	}
+
+
+	/** A {@link Collector} which counts the occurrences of each stream element. Each thread counts into an {@link ObjLongFrequencyMap},
+	 * which increments counts in place, partial results are combined by adding the smaller map into the larger map, and each count is
+	 * boxed once into the resulting {@link FrequencyMap}. Usable with parallel streams.
+	 * @param frequencyType the numeric type of the resulting map's frequencies
+	 */
+	public static <T, V extends Number> Collector<T, ?, FrequencyMap<T, V>> counting(JNumericType frequencyType) {
+		@SuppressWarnings("unchecked")
+		Class<V> primitiveType = (Class<V>)frequencyType.getType();
+		return Collector.<T, ObjLongFrequencyMap<T>, FrequencyMap<T, V>>of(
+			ObjLongFrequencyMap::new,
+			ObjLongFrequencyMap::increment,
+			(a, b) -> {
+				ObjLongFrequencyMap<T> dst = (a.size() >= b.size() ? a : b);
+				ObjLongFrequencyMap<T> src = (dst == a ? b : a);
+				src.forEach(dst::add);
+				return dst;
+			},
+			(counts) -> {
+				FrequencyMap<T, V> res = new FrequencyMap<>(frequencyType);
+				Map<T, V> dst = res.frequencies;
+				counts.forEach((k, c) -> dst.put(k, ofLong(primitiveType, frequencyType, c)));
+				return res;
+			},
+			Collector.Characteristics.UNORDERED
+		);
+	}
+
+
+	/** Get the {@code k} most frequent keys without sorting every entry, runs in O(n log k) time using a bounded min-heap
+	 * @param k the maximum number of keys to return
+	 * @return up to {@code k} entries, copies of this map's entries which are not affected by later updates, sorted from most to least frequent
+	 */
+	public List<Map.Entry<K, V>> topK(int k) {
+		TopK<K, V> top = new TopK<>(k, frequencyComparator());
+		for(Map.Entry<K, V> entry : frequencies.entrySet()) {
+			top.offer(entry);
+		}
+		return top.toSortedList();
+	}
+
+
+	/** A parallel version of {@link #topK(int)} for large maps, each thread finds the top {@code k} entries
+	 * of part of this map using the common {@link java.util.concurrent.ForkJoinPool} and then the partial results are merged
+	 * @see #topK(int)
+	 */
+	public List<Map.Entry<K, V>> parallelTopK(int k) {
+		Comparator<V> cmp = frequencyComparator();
+		TopK<K, V> top = frequencies.entrySet().parallelStream().collect(() -> new TopK<>(k, cmp), TopK::offer, TopK::offerAll);
+		return top.toSortedList();
+	}
+
+
+	/** Compare frequencies as {@code long} values for integer frequency types so large counts are not rounded
+	 */
+	private Comparator<V> frequencyComparator() {
+		if(frequencyType == JNumericType.DOUBLE || frequencyType == JNumericType.FLOAT) {
+			return (a, b) -> Double.compare(a.doubleValue(), b.doubleValue());
+		}
+		return (a, b) -> Long.compare(a.longValue(), b.longValue());
+	}
+
+
+	/** Add two frequencies using the arithmetic of the specified type
+	 * @param value the current frequency, may be null (treated as 0)
+	 */
+	@SuppressWarnings("unchecked")
+	private static final <V> V sum(Class<V> primitiveType, JNumericType type, Number value, Number add) {
+		if(value == null) {
+			return convert(primitiveType, type, add);
+		}
+		switch(type) {
+		case BYTE:
+			return (V) Byte.valueOf((byte)(value.byteValue() + add.byteValue()));
+		case DOUBLE:
+			return (V) Double.valueOf(value.doubleValue() + add.doubleValue());
+		case FLOAT:
+			return (V) Float.valueOf(value.floatValue() + add.floatValue());
+		case INT:
+			return (V) Integer.valueOf(value.intValue() + add.intValue());
+		case LONG:
+			return (V) Long.valueOf(value.longValue() + add.longValue());
+		case SHORT:
+			return (V) Short.valueOf((short)(value.shortValue() + add.shortValue()));
+		default:
+			throw new IllegalArgumentException("unknown numeric type '" + type + "'");
+		}
+	}
+
+
+	/** Convert a number to the specified type
+	 */
+	@SuppressWarnings("unchecked")
+	private static final <V> V convert(Class<V> primitiveType, JNumericType type, Number value) {
+		switch(type) {
+		case BYTE:
+			return (V) Byte.valueOf(value.byteValue());
+		case DOUBLE:
+			return (V) Double.valueOf(value.doubleValue());
+		case FLOAT:
+			return (V) Float.valueOf(value.floatValue());
+		case INT:
+			return (V) Integer.valueOf(value.intValue());
+		case LONG:
+			return (V) Long.valueOf(value.longValue());
+		case SHORT:
+			return (V) Short.valueOf(value.shortValue());
+		default:
+			throw new IllegalArgumentException("unknown numeric type '" + type + "'");
+		}
+	}
+
+
+	/** Convert a count to the specified type, like {@link #of(Class, JNumericType, double)} without rounding large {@code long} counts
+	 */
+	@SuppressWarnings("unchecked")
+	static final <V> V ofLong(Class<V> primitiveType, JNumericType type, long value) {
+		switch(type) {
+		case BYTE:
+			return (V) Byte.valueOf((byte)value);
+		case DOUBLE:
+			return (V) Double.valueOf(value);
+		case FLOAT:
+			return (V) Float.valueOf(value);
+		case INT:
+			return (V) Integer.valueOf((int)value);
+		case LONG:
+			return (V) Long.valueOf(value);
+		case SHORT:
+			return (V) Short.valueOf((short)value);
+		default:
+			throw new IllegalArgumentException("unknown numeric type '" + type + "'");
+		}
+	}
+
+
 	@SuppressWarnings("unchecked")
 	public static final <V> V of(Class<V> primitiveType, JNumericType type, double value) {
 		switch(type) {
@@ -109,4 +277,55 @@ public class FrequencyMap<K, V extends Number> {
 		}
 	}
 
+
+
+
+	/** A min-heap holding at most {@code k} entries, the smallest frequency is evicted when a larger entry is offered to a full heap
+	 */
+	private static final class TopK<K, V extends Number> {
+		private final int k;
+		private final Comparator<V> cmp;
+		private final PriorityQueue<Map.Entry<K, V>> heap;
+
+
+		TopK(int k, Comparator<V> cmp) {
+			if(k < 0) {
+				throw new IllegalArgumentException("k must not be negative: " + k);
+			}
+			this.k = k;
+			this.cmp = cmp;
+			this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), (a, b) -> cmp.compare(a.getValue(), b.getValue()));
+		}
+
+
+		void offer(Map.Entry<K, V> entry) {
+			V value = entry.getValue();
+			if(value == null || k == 0) {
+				return;
+			}
+			if(heap.size() < k) {
+				heap.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+			}
+			else if(cmp.compare(value, heap.peek().getValue()) > 0) {
+				heap.poll();
+				heap.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+			}
+		}
+
+
+		void offerAll(TopK<K, V> other) {
+			for(Map.Entry<K, V> entry : other.heap) {
+				offer(entry);
+			}
+		}
+
+
+		List<Map.Entry<K, V>> toSortedList() {
+			List<Map.Entry<K, V>> res = new ArrayList<>(heap);
+			res.sort((a, b) -> cmp.compare(b.getValue(), a.getValue()));
+			return res;
+		}
+
+	}
+
 }
@@ -0,0 +1,621 @@
+package twg2.collections.dataStructures;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import twg2.collections.interfaces.ListReadOnly;
+
+/** A gap buffer implementation of {@link BaseList} for insert heavy workloads where inserts and removes happen near a moving position (i.e. a cursor).<br>
+ * The unused capacity of the {@link #elements} array is kept as a movable gap starting at {@link #gapStart}, rather than at the end of the array.
+ * {@link #add(int, Object)}, {@link #remove(int)}, {@link #addAll(int, Collection)}, and {@link #removeRange(int, int)} move the gap to the
+ * modified index (copying only the elements between the old and new gap position) and then fill or widen the gap, so repeated
+ * modifications near the same index are O(1) amortized while {@link #get(int)} and {@link #set(int, Object)} remain O(1).<br>
+ * The gap length is always {@code elements.length - size}, so when the gap is at the end of the list the array layout is identical to {@link BaseList}'s.
+ * Bulk operations which scan the whole list (such as {@link #indexOf(Object)}, {@link #sort(Comparator)}, {@link #toArray()}, and {@link #spliterator()})
+ * first move the gap to the end of the list and then use the {@code BaseList} implementation.
+ * @param <E> the type of elements in this list
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class GapList<E> extends BaseList<E> {
+	private static final long serialVersionUID = 6201785263400312917L;
+
+	/** The list index at which the gap starts, elements at indices {@code [gapStart, size)} are stored
+	 * at {@code index + (elements.length - size)} in the {@link #elements} array
+	 */
+	protected int gapStart;
+
+
+	/** Constructs an empty list with the specified initial capacity.
+	 * @param initialCapacity  the initial capacity of the list
+	 * @throws IllegalArgumentException if the specified initial capacity is negative
+	 */
+	public GapList(int initialCapacity) {
+		super(initialCapacity);
+	}
+
+
+	/** Constructs an empty list with the specified initial capacity, backed by an array of the specified component type.
+	 * @param componentType the component type of the backing array
+	 * @param initialCapacity the initial capacity of the list
+	 * @throws IllegalArgumentException if the specified initial capacity is negative
+	 * @see BaseList#BaseList(Class, int)
+	 */
+	public GapList(Class<? super E> componentType, int initialCapacity) {
+		super(componentType, initialCapacity);
+	}
+
+
+	/** Constructs an empty list with an initial capacity of ten.
+	 */
+	public GapList() {
+		super();
+	}
+
+
+	/** Constructs a list containing the elements of the specified collection,
+	 * in the order they are returned by the collection's iterator.
+	 * @param c the collection whose elements are to be placed into this list
+	 * @throws NullPointerException if the specified collection is null
+	 */
+	public GapList(Collection<? extends E> c) {
+		super(c);
+		this.gapStart = size;
+	}
+
+
+	/** Moves the gap to the end of the list so that the elements array layout matches {@link BaseList}'s.
+	 * {@code BaseList} methods which remove elements leave the gap at the end, but {@link #gapStart} must be reset to {@code size} afterward.
+	 */
+	protected void closeGap() {
+		moveGap(size);
+	}
+
+
+	/** Move the gap so that it starts at the specified list index.
+	 * Only the elements between the old and new gap position are copied.
+	 */
+	protected void moveGap(int index) {
+		final int gapLen = elements.length - size;
+		final int start = gapStart;
+		if (gapLen > 0 && index != start) {
+			final Object[] es = unshare();
+			if (index < start) {
+				// shift elements [index, gapStart) up to the end of the gap
+				System.arraycopy(es, index, es, index + gapLen, start - index);
+				Arrays.fill(es, index, Math.min(start, index + gapLen), null);
+			}
+			else {
+				// shift elements after the gap, up to the new gap start, down to the old gap start
+				System.arraycopy(es, start + gapLen, es, start, index - start);
+				Arrays.fill(es, Math.max(index, start + gapLen), index + gapLen, null);
+			}
+		}
+		gapStart = index;
+	}
+
+
+	/** Convert a list index to an {@link #elements} array index
+	 */
+	protected final int physicalIndex(int index) {
+		return index < gapStart ? index : index + (elements.length - size);
+	}
+
+
+	/** Grows the elements array, the gap keeps its position and is widened by the added capacity.
+	 */
+	@Override
+	protected Object[] grow(int minCapacity) {
+		final Object[] es = elements;
+		final int start = gapStart;
+		final int tailLen = size - start;
+		Object[] newEs = newArray(newCapacity(minCapacity));
+		System.arraycopy(es, 0, newEs, 0, start);
+		System.arraycopy(es, es.length - tailLen, newEs, newEs.length - tailLen, tailLen);
+		// the old array's elements are not contiguous, clear the entire array if it is released
+		releaseArray(es, es.length);
+		shared = false;
+		return elements = newEs;
+	}
+
+
+	@Override
+	public void trimToSize() {
+		closeGap();
+		super.trimToSize();
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Objects.checkIndex(index, size);
+		return (E)elements[physicalIndex(index)];
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E element) {
+		Objects.checkIndex(index, size);
+		int i = physicalIndex(index);
+		E oldValue = (E)elements[i];
+		unshare()[i] = element;
+		return oldValue;
+	}
+
+
+	@Override
+	public boolean add(E e) {
+		add(size, e);
+		return true;
+	}
+
+
+	@Override
+	public void add(int index, E element) {
+		rangeCheckForAdd(index);
+		modCount++;
+		if (size == elements.length)
+			grow(size + 1);
+		moveGap(index);
+		elements[index] = element;
+		gapStart = index + 1;
+		size++;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E remove(int index) {
+		Objects.checkIndex(index, size);
+		modCount++;
+		moveGap(index);
+		// the removed element is the first element after the gap, it becomes part of the gap
+		final Object[] es = unshare();
+		final int i = index + (es.length - size);
+		E oldValue = (E)es[i];
+		es[i] = null;
+		size--;
+		return oldValue;
+	}
+
+
+	@Override
+	public boolean remove(Object o) {
+		closeGap();
+		boolean res = super.remove(o);
+		gapStart = size;
+		return res;
+	}
+
+
+	@Override
+	public boolean removeRef(Object o) {
+		closeGap();
+		boolean res = super.removeRef(o);
+		gapStart = size;
+		return res;
+	}
+
+
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		return addAll(size, c);
+	}
+
+
+	@Override
+	public boolean addAll(int index, Collection<? extends E> c) {
+		rangeCheckForAdd(index);
+		Object[] a = c.toArray();
+		modCount++;
+		int numNew = a.length;
+		if (numNew == 0)
+			return false;
+		if (numNew > elements.length - size)
+			grow(size + numNew);
+		moveGap(index);
+		System.arraycopy(a, 0, elements, index, numNew);
+		gapStart = index + numNew;
+		size += numNew;
+		return true;
+	}
+
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(fromIndex, toIndex));
+		}
+		modCount++;
+		moveGap(fromIndex);
+		// the removed elements directly follow the gap, they become part of the gap
+		final Object[] es = unshare();
+		final int gapEnd = fromIndex + (es.length - size);
+		Arrays.fill(es, gapEnd, gapEnd + (toIndex - fromIndex), null);
+		size -= toIndex - fromIndex;
+	}
+
+
+	@Override
+	public void clear() {
+		modCount++;
+		final Object[] es = elements;
+		if (shared) {
+			elements = newArray(es.length);
+			shared = false;
+		}
+		else {
+			Arrays.fill(es, 0, gapStart, null);
+			Arrays.fill(es, gapStart + (es.length - size), es.length, null);
+		}
+		size = 0;
+		gapStart = 0;
+	}
+
+
+	@Override
+	public void release() {
+		closeGap();
+		super.release();
+		gapStart = 0;
+	}
+
+
+	@Override
+	public int indexOf(Object o) {
+		closeGap();
+		return super.indexOf(o);
+	}
+
+
+	@Override
+	public int lastIndexOf(Object o) {
+		closeGap();
+		return super.lastIndexOf(o);
+	}
+
+
+	@Override
+	public Object[] toArray() {
+		closeGap();
+		return super.toArray();
+	}
+
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		closeGap();
+		return super.toArray(a);
+	}
+
+
+	@Override
+	boolean batchRemove(Collection<?> c, boolean complement, int from, int end) {
+		closeGap();
+		boolean res = super.batchRemove(c, complement, from, end);
+		gapStart = size;
+		return res;
+	}
+
+
+	@Override
+	boolean removeIf(Predicate<? super E> filter, int i, int end) {
+		closeGap();
+		boolean res = super.removeIf(filter, i, end);
+		gapStart = size;
+		return res;
+	}
+
+
+	@Override
+	public Object clone() {
+		closeGap();
+		return super.clone();
+	}
+
+
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		closeGap();
+		super.forEach(action);
+	}
+
+
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		closeGap();
+		super.replaceAll(operator);
+	}
+
+
+	@Override
+	public void sort(Comparator<? super E> c) {
+		closeGap();
+		super.sort(c);
+	}
+
+
+	@Override
+	public void parallelSort(Comparator<? super E> c) {
+		closeGap();
+		super.parallelSort(c);
+	}
+
+
+	@Override
+	public void parallelReplaceAll(UnaryOperator<E> operator) {
+		closeGap();
+		super.parallelReplaceAll(operator);
+	}
+
+
+	@Override
+	public void parallelForEach(Consumer<? super E> action) {
+		closeGap();
+		super.parallelForEach(action);
+	}
+
+
+	@Override
+	public boolean parallelRemoveIf(Predicate<? super E> filter) {
+		closeGap();
+		boolean res = super.parallelRemoveIf(filter);
+		gapStart = size;
+		return res;
+	}
+
+
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		rangeCheckForAdd(index);
+		return new GapListIterator(index);
+	}
+
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new GapListIterator(0);
+	}
+
+
+	@Override
+	public Iterator<E> iterator() {
+		return new GapListIterator(0);
+	}
+
+
+	@Override
+	public List<E> subList(int fromIndex, int toIndex) {
+		subListRangeCheck(fromIndex, toIndex, size);
+		return new GapSubList<>(this, fromIndex, toIndex);
+	}
+
+
+	/** Returns a late-binding spliterator, the gap is moved to the end of the list when the
+	 * spliterator is first traversed, split, or queried for its size
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new GapListSpliterator();
+	}
+
+
+	/** Moves the gap to the end of the list and returns a {@link BaseList#snapshot()} of the list.
+	 * Until the list's elements array is copied, inserts and removes which move the gap or modify existing elements copy the array first.
+	 */
+	@Override
+	public ListReadOnly<E> snapshot() {
+		closeGap();
+		return super.snapshot();
+	}
+
+
+	@Override
+	Object[] contiguousElements() {
+		closeGap();
+		return elements;
+	}
+
+
+	/** Moves the gap to the end of the list before serialization, so {@link BaseList}'s serialized form is used
+	 */
+	private Object writeReplace() {
+		closeGap();
+		return this;
+	}
+
+
+
+
+	/** A {@link BaseList.BaseListIterator} which reads elements around the gap
+	 */
+	public class GapListIterator extends BaseListIterator {
+
+		GapListIterator(int index) {
+			super(index);
+		}
+
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			checkModCount();
+			int i = cursor;
+			if (i >= size)
+				throw new NoSuchElementException();
+			cursor = i + 1;
+			return (E)elements[physicalIndex(lastRet = i)];
+		}
+
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E previous() {
+			checkModCount();
+			int i = cursor - 1;
+			if (i < 0)
+				throw new NoSuchElementException();
+			cursor = i;
+			return (E)elements[physicalIndex(lastRet = i)];
+		}
+
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			final int size = GapList.this.size;
+			int i = cursor;
+			for (; i < size && modCount == expectedModCount; i++)
+				action.accept((E)elements[physicalIndex(i)]);
+			cursor = i;
+			lastRet = i - 1;
+			checkModCount();
+		}
+	}
+
+
+
+
+	/** A late-binding {@link BaseList.BaseListSpliterator}, which closes the gap and binds to the list's
+	 * size and mod count when it is first used, since the gap may move between creation and first use
+	 */
+	final class GapListSpliterator implements Spliterator<E> {
+		private BaseListSpliterator bound; // null until first use
+
+
+		private BaseListSpliterator bind() {
+			BaseListSpliterator s = bound;
+			if (s == null) {
+				closeGap();
+				s = bound = new BaseListSpliterator(0, size, modCount);
+			}
+			return s;
+		}
+
+
+		@Override
+		public Spliterator<E> trySplit() {
+			return bind().trySplit();
+		}
+
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			return bind().tryAdvance(action);
+		}
+
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			bind().forEachRemaining(action);
+		}
+
+
+		@Override
+		public long estimateSize() {
+			return bind().estimateSize();
+		}
+
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+
+
+
+
+	/** A sub-list view which accesses its root {@link GapList} through the root's gap aware methods
+	 */
+	protected static class GapSubList<E> extends AbstractList<E> implements RandomAccess, ListReadOnly<E> {
+		protected final GapList<E> root;
+		protected final int offset;
+		protected int size;
+
+
+		protected GapSubList(GapList<E> root, int fromIndex, int toIndex) {
+			this.root = root;
+			this.offset = fromIndex;
+			this.size = toIndex - fromIndex;
+			this.modCount = root.modCount;
+		}
+
+
+		@Override
+		public E get(int index) {
+			Objects.checkIndex(index, size);
+			checkModCount();
+			return root.get(offset + index);
+		}
+
+
+		@Override
+		public E set(int index, E element) {
+			Objects.checkIndex(index, size);
+			checkModCount();
+			return root.set(offset + index, element);
+		}
+
+
+		@Override
+		public int size() {
+			checkModCount();
+			return size;
+		}
+
+
+		@Override
+		public void add(int index, E element) {
+			if (index < 0 || index > size)
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			checkModCount();
+			root.add(offset + index, element);
+			size++;
+			this.modCount = root.modCount;
+		}
+
+
+		@Override
+		public E remove(int index) {
+			Objects.checkIndex(index, size);
+			checkModCount();
+			E result = root.remove(offset + index);
+			size--;
+			this.modCount = root.modCount;
+			return result;
+		}
+
+
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			checkModCount();
+			root.removeRange(offset + fromIndex, offset + toIndex);
+			size -= toIndex - fromIndex;
+			this.modCount = root.modCount;
+		}
+
+
+		protected void checkModCount() {
+			if (root.modCount != modCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+package twg2.collections.dataStructures;
+
+/** Calculates the new capacity of a growable array based collection, such as {@link BaseList}, when the collection runs out of room.
+ * Implementations should return a value greater than or equal to {@code minCapacity},
+ * callers use {@code minCapacity} if a smaller value is returned and limit the result to the VM's maximum array size.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+	/** Grow to exactly the requested capacity, minimizes memory use but appending {@code n} elements one at a time copies the array {@code n} times */
+	public static final GrowthPolicy EXACT = (oldCapacity, minCapacity) -> minCapacity;
+
+	/** Grow by 50%, the default {@link BaseList} (and {@link java.util.ArrayList}) policy */
+	public static final GrowthPolicy ONE_AND_HALF = (oldCapacity, minCapacity) -> clamp(Math.max(minCapacity, oldCapacity + (long)(oldCapacity >> 1)));
+
+	/** Grow by 100%, fewer copies than {@link #ONE_AND_HALF} at the cost of more unused capacity */
+	public static final GrowthPolicy DOUBLE = (oldCapacity, minCapacity) -> clamp(Math.max(minCapacity, oldCapacity * 2L));
+
+	/** Grow to the smallest power of two greater than or equal to the requested capacity, pairs well with {@link ArrayRecycler}'s power-of-two size classes */
+	public static final GrowthPolicy POWER_OF_TWO = (oldCapacity, minCapacity) -> minCapacity <= 1 ? 1 : clamp(Long.highestOneBit(minCapacity - 1L) << 1);
+
+
+	/** Calculate a new array capacity
+	 * @param oldCapacity the current array capacity
+	 * @param minCapacity the minimum required capacity
+	 * @return the new capacity, should be greater than or equal to {@code minCapacity}
+	 */
+	public int newCapacity(int oldCapacity, int minCapacity);
+
+
+	/** Create a policy which grows by 50% but by no more than {@code maxIncrement} elements at a time,
+	 * useful for very large lists where 50% of the current capacity would waste a lot of memory
+	 * @param maxIncrement the maximum number of elements to add to the capacity, unless {@code minCapacity} requires more
+	 */
+	public static GrowthPolicy cappedIncrement(int maxIncrement) {
+		if(maxIncrement < 1) {
+			throw new IllegalArgumentException("max increment must be positive: " + maxIncrement);
+		}
+		return (oldCapacity, minCapacity) -> clamp(Math.max(minCapacity, oldCapacity + (long)Math.min(oldCapacity >> 1, maxIncrement)));
+	}
+
+
+	private static int clamp(long capacity) {
+		return (int)Math.min(capacity, Integer.MAX_VALUE);
+	}
+
+}
@@ -0,0 +1,311 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+/** A {@link Bag} which maintains a hash index from each distinct element to its positions in the bag.
+ * {@link #contains(Object) contains(T)} and {@link #remove(Object) remove(T)} are O(1) instead of a linear scan
+ * while iteration and {@link #get(int)} still read straight from the dense backing array.<br>
+ * Each distinct element maps to the position of one of its occurrences, the remaining occurrences (if the
+ * bag contains duplicates) are linked together by position in two parallel {@code int} arrays, so swap-removes
+ * only need to patch the links of the removed and moved elements.<br>
+ * Elements must not be modified in ways that change their {@link Object#hashCode()} or {@link Object#equals(Object)}
+ * results while they are in the bag.
+ * @param <T> the type of items that can be inserted
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class IndexedBag<T> extends Bag<T> {
+	/** Maps each distinct element to the position of one of its occurrences (the head of that element's position chain) */
+	private final HashMap<T, Integer> index;
+	/** The next position containing an element equal to the element at each position, -1 if there are no more */
+	private int[] nextPos;
+	/** The previous position containing an element equal to the element at each position, -1 if the position is the head */
+	private int[] prevPos;
+
+
+	/** Creates an indexed unsorted collection with a default size of 10
+	 */
+	public IndexedBag() {
+		this(10);
+	}
+
+
+	/** Create an indexed unsorted collection with the specified initial size
+	 * @param capacity the initial size of this collection
+	 */
+	public IndexedBag(int capacity) {
+		super(capacity);
+		this.index = new HashMap<>(capacity);
+		this.nextPos = new int[capacity];
+		this.prevPos = new int[capacity];
+	}
+
+
+	/** Create an indexed unsorted collection with the specified initial size and the specified array type
+	 * @param capacity the initial size of this collection
+	 */
+	public IndexedBag(Class<?> componentType, int capacity) {
+		super(componentType, capacity);
+		this.index = new HashMap<>(capacity);
+		this.nextPos = new int[capacity];
+		this.prevPos = new int[capacity];
+	}
+
+
+	public IndexedBag(Collection<T> coll) {
+		this(coll.size());
+		this.addAll(coll);
+	}
+
+
+	public IndexedBag(T[] vals) {
+		this(vals, 0, vals.length);
+	}
+
+
+	public IndexedBag(T[] vals, int off, int len) {
+		this(len);
+		this.addAll(vals, off, len);
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public IndexedBag<T> copy() {
+		Object[] data = super.getRawArray();
+		IndexedBag<T> copy = new IndexedBag<>(data.getClass().getComponentType(), super.size());
+		copy.addAll((T[])data, 0, super.size());
+		return copy;
+	}
+
+
+	/** Remove the element at the specified index from this collection
+	 * @param index the index between zero and {@link #size()}-1 inclusive to remove
+	 * @return the element found at the specified index
+	 */
+	@Override
+	public T remove(int index) {
+		int last = super.size() - 1;
+		T item = super.remove(index);
+		unlink(index, item);
+		// the last element was swapped into the removed element's position
+		if(index != last) {
+			move(last, index);
+		}
+		return item;
+	}
+
+
+	/** Remove one occurrence of the specified element from this bag in O(1) time
+	 * @param item the object to remove based on {@code item.equals(get(i))} if item
+	 * is not null, or {@code get(i)==null} if item is null, where i is [0, size()-1]
+	 * @return true if the element was removed successfully, false otherwise
+	 */
+	@Override
+	public boolean remove(T item) {
+		Integer idx = index.get(item);
+		if(idx == null) {
+			return false;
+		}
+		remove(idx.intValue());
+		return true;
+	}
+
+
+	@Override
+	public T set(int i, T item) {
+		T oldItem = super.set(i, item);
+		unlink(i, oldItem);
+		link(i);
+		return oldItem;
+	}
+
+
+	@Override
+	public boolean add(T item) {
+		super.add(item);
+		linkRange(super.size() - 1, super.size());
+		return true;
+	}
+
+
+	@Override
+	public void addAll(Bag<? extends T> items) {
+		int start = super.size();
+		super.addAll(items);
+		linkRange(start, super.size());
+	}
+
+
+	@Override
+	public void addAll(Iterable<? extends T> items, int iteratorSize) {
+		int start = super.size();
+		super.addAll(items, iteratorSize);
+		linkRange(start, super.size());
+	}
+
+
+	@Override
+	public void addAll(T[] items, int off, int len) {
+		int start = super.size();
+		super.addAll(items, off, len);
+		linkRange(start, super.size());
+	}
+
+
+	/** Check if the specified value is contained in this bag in O(1) time
+	 * @param value the value to check for in this bag
+	 * @return true if the value was found in the bag, false otherwise
+	 */
+	@Override
+	public boolean contains(T value) {
+		return index.containsKey(value);
+	}
+
+
+	/** Find the first occurring index of the specified value in this list,
+	 * starting at the specified offset.
+	 * Runs in time proportional to the number of occurrences of the value rather than the size of this bag.
+	 * @param value the value to search for in this list
+	 * @param fromIndex shrinks the search range to {@code [fromIndex, }{@link #size()} {@code - 1]}
+	 * @return an index between {@code [fromIndex, }{@link #size()} {@code - 1]} if the value is
+	 * found, or -1 if the value cannot be found
+	 */
+	@Override
+	public int indexOf(T value, int fromIndex) {
+		Integer head = index.get(value);
+		if(head == null) {
+			return -1;
+		}
+		int res = -1;
+		for(int i = head; i != -1; i = nextPos[i]) {
+			if(i >= fromIndex && (res == -1 || i < res)) {
+				res = i;
+			}
+		}
+		return res;
+	}
+
+
+	/** Find the last occurring index of the specified value in this list.
+	 * Runs in time proportional to the number of occurrences of the value rather than the size of this bag.
+	 * @param value the value to search for in this list
+	 * @param fromIndex shrinks the search range to {@code [0, }{@link #size()} {@code - fromIndex - 1]}
+	 * @return an index between {@code [0, }{@link #size()} {@code - fromIndex - 1]} if the value is
+	 * found, or -1 if the value cannot be found
+	 */
+	@Override
+	public int lastIndexOf(T value, int fromIndex) {
+		Integer head = index.get(value);
+		if(head == null) {
+			return -1;
+		}
+		int end = super.size() - fromIndex;
+		int res = -1;
+		for(int i = head; i != -1; i = nextPos[i]) {
+			if(i < end && i > res) {
+				res = i;
+			}
+		}
+		return res;
+	}
+
+
+	@Override
+	public void clear() {
+		super.clear();
+		index.clear();
+	}
+
+
+	@Override
+	public void clearAndAddAll(List<T> items) {
+		index.clear();
+		super.clearAndAddAll(items);
+		linkRange(0, super.size());
+	}
+
+
+	@Override
+	public void clearAndAddAll(T[] items) {
+		// Bag.clearAndAddAll(T[]) resets the size and then calls addAll(T[], int, int) which indexes the new items
+		index.clear();
+		super.clearAndAddAll(items);
+	}
+
+
+	/** Add the elements in the range {@code [start, end)} to the index
+	 */
+	private void linkRange(int start, int end) {
+		int capacity = super.getRawArray().length;
+		if(nextPos.length < capacity) {
+			nextPos = Arrays.copyOf(nextPos, capacity);
+			prevPos = Arrays.copyOf(prevPos, capacity);
+		}
+		for(int i = start; i < end; i++) {
+			link(i);
+		}
+	}
+
+
+	/** Add the element at position {@code i} to the index as the head of its position chain
+	 */
+	private void link(int i) {
+		@SuppressWarnings("unchecked")
+		T item = (T)super.getRawArray()[i];
+		Integer head = index.put(item, i);
+		prevPos[i] = -1;
+		if(head != null) {
+			nextPos[i] = head;
+			prevPos[head] = i;
+		}
+		else {
+			nextPos[i] = -1;
+		}
+	}
+
+
+	/** Remove position {@code i}, which contained {@code item}, from the index
+	 */
+	private void unlink(int i, T item) {
+		int prev = prevPos[i];
+		int next = nextPos[i];
+		if(prev != -1) {
+			nextPos[prev] = next;
+		}
+		else if(next != -1) {
+			index.put(item, next);
+		}
+		else {
+			index.remove(item);
+		}
+		if(next != -1) {
+			prevPos[next] = prev;
+		}
+	}
+
+
+	/** Update the index after the element at position {@code from} has been moved to position {@code to}
+	 */
+	private void move(int from, int to) {
+		int prev = prevPos[from];
+		int next = nextPos[from];
+		prevPos[to] = prev;
+		nextPos[to] = next;
+		if(prev != -1) {
+			nextPos[prev] = to;
+		}
+		else {
+			@SuppressWarnings("unchecked")
+			T item = (T)super.getRawArray()[to];
+			index.put(item, to);
+		}
+		if(next != -1) {
+			prevPos[next] = to;
+		}
+	}
+
+}
@@ -0,0 +1,339 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/** A frequency map, like {@link FrequencyMap}, specialized for {@code int} keys and {@code int} frequencies.<br>
+ * Keys and counts are stored in parallel {@code int} arrays in an open addressing (linear probing) hash table, so counting never
+ * boxes a key or a count. Key 0 marks empty table slots, so the count of key 0 is stored in a separate field.
+ * Removing a key shifts the following keys in its probe sequence back rather than leaving a tombstone.<br>
+ * The count of a key that is not in the map is 0, so {@link #get(int)} and the {@code getAnd*()} methods return 0 for missing keys,
+ * use {@link #contains(int)} to distinguish a missing key from a key with a count of 0.
+ * This class is not thread-safe.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class IntIntFrequencyMap {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** The hash table keys, a 0 entry is an empty slot, the length is always a power of two */
+	private int[] keys;
+	/** The count of each key, parallel to {@link #keys} */
+	private int[] counts;
+	private int mask;
+	/** The number of keys in the table (excluding key 0) */
+	private int tableSize;
+	/** The size at which the table is doubled, 3/4 of the table length */
+	private int threshold;
+	private boolean hasZeroKey;
+	private int zeroKeyCount;
+
+
+	/** A consumer of a key and its count
+	 */
+	@FunctionalInterface
+	public static interface EntryConsumer {
+
+		public void accept(int key, int count);
+
+	}
+
+
+	public IntIntFrequencyMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+
+	/**
+	 * @param expectedSize the number of keys this map can hold before its table is resized
+	 */
+	public IntIntFrequencyMap(int expectedSize) {
+		if(expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+		}
+		allocate(tableSizeFor(expectedSize));
+	}
+
+
+	public boolean contains(int key) {
+		return key == 0 ? hasZeroKey : find(key) >= 0;
+	}
+
+
+	public int size() {
+		return tableSize + (hasZeroKey ? 1 : 0);
+	}
+
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+
+	/**
+	 * @return the count of the key, 0 if the key is not in this map
+	 */
+	public int get(int key) {
+		if(key == 0) {
+			return zeroKeyCount;
+		}
+		int pos = find(key);
+		return pos >= 0 ? counts[pos] : 0;
+	}
+
+
+	/** Remove a key from this map
+	 * @return the key's count, 0 if the key was not in this map
+	 */
+	public int remove(int key) {
+		if(key == 0) {
+			int oldCount = zeroKeyCount;
+			hasZeroKey = false;
+			zeroKeyCount = 0;
+			return oldCount;
+		}
+		int pos = find(key);
+		if(pos < 0) {
+			return 0;
+		}
+		int oldCount = counts[pos];
+		tableSize--;
+		shiftKeys(pos);
+		return oldCount;
+	}
+
+
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(counts, 0);
+		tableSize = 0;
+		hasZeroKey = false;
+		zeroKeyCount = 0;
+	}
+
+
+	public void increment(int key) {
+		getAndAdd(key, 1);
+	}
+
+
+	public void decrement(int key) {
+		getAndAdd(key, -1);
+	}
+
+
+	public int getAndIncrement(int key) {
+		return getAndAdd(key, 1);
+	}
+
+
+	public int getAndDecrement(int key) {
+		return getAndAdd(key, -1);
+	}
+
+
+	public void add(int key, int value) {
+		getAndAdd(key, value);
+	}
+
+
+	public void subtract(int key, int value) {
+		getAndAdd(key, -value);
+	}
+
+
+	/** Add a value to a key's count, adding the key with a count of {@code add} if it is not in this map
+	 * @return the key's previous count, 0 if the key was not in this map
+	 */
+	public int getAndAdd(int key, int add) {
+		if(key == 0) {
+			hasZeroKey = true;
+			int oldCount = zeroKeyCount;
+			zeroKeyCount = oldCount + add;
+			return oldCount;
+		}
+		int pos = insert(key);
+		int oldCount = counts[pos];
+		counts[pos] = oldCount + add;
+		return oldCount;
+	}
+
+
+	/** Add a value to a key's count, adding the key with a count of {@code add} if it is not in this map
+	 * @return the key's new count
+	 */
+	public int addAndGet(int key, int add) {
+		if(key == 0) {
+			hasZeroKey = true;
+			return zeroKeyCount += add;
+		}
+		int pos = insert(key);
+		return counts[pos] += add;
+	}
+
+
+	/** Call an action for each key and count in this map, key 0 (if present) first and then the rest in table order
+	 */
+	public void forEach(EntryConsumer action) {
+		Objects.requireNonNull(action);
+		if(hasZeroKey) {
+			action.accept(0, zeroKeyCount);
+		}
+		final int[] ks = keys;
+		final int[] cs = counts;
+		for(int i = 0; i < ks.length; i++) {
+			if(ks[i] != 0) {
+				action.accept(ks[i], cs[i]);
+			}
+		}
+	}
+
+
+	/**
+	 * @return a new array containing the keys in this map, in {@link #forEach(EntryConsumer)} order
+	 */
+	public int[] keys() {
+		int[] res = new int[size()];
+		int n = 0;
+		if(hasZeroKey) {
+			res[n++] = 0;
+		}
+		for(int k : keys) {
+			if(k != 0) {
+				res[n++] = k;
+			}
+		}
+		return res;
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(size() * 8 + 2);
+		sb.append('{');
+		forEach((k, c) -> {
+			if(sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(k).append('=').append(c);
+		});
+		return sb.append('}').toString();
+	}
+
+
+	/**
+	 * @return the table index of the non-zero key, or -1 if it is not in this map
+	 */
+	private int find(int k) {
+		final int[] ks = keys;
+		int pos = hash(k) & mask;
+		int curr;
+		while((curr = ks[pos]) != 0) {
+			if(curr == k) {
+				return pos;
+			}
+			pos = (pos + 1) & mask;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @return the table index of the non-zero key, adding it with a count of 0 if it is not in this map
+	 */
+	private int insert(int k) {
+		int[] ks = keys;
+		int pos = hash(k) & mask;
+		int curr;
+		while((curr = ks[pos]) != 0) {
+			if(curr == k) {
+				return pos;
+			}
+			pos = (pos + 1) & mask;
+		}
+		if(tableSize >= threshold) {
+			rehash(keys.length * 2);
+			ks = keys;
+			pos = hash(k) & mask;
+			while(ks[pos] != 0) {
+				pos = (pos + 1) & mask;
+			}
+		}
+		ks[pos] = k;
+		tableSize++;
+		return pos;
+	}
+
+
+	/** Fill the slot at {@code pos} by moving back the following keys in its probe sequence which hash at or before {@code pos}
+	 */
+	private void shiftKeys(int pos) {
+		final int[] ks = keys;
+		final int[] cs = counts;
+		for(;;) {
+			int last = pos;
+			pos = (pos + 1) & mask;
+			int curr;
+			for(;;) {
+				if((curr = ks[pos]) == 0) {
+					ks[last] = 0;
+					cs[last] = 0;
+					return;
+				}
+				int slot = hash(curr) & mask;
+				// move the key if its home slot is not in the cyclic range (last, pos]
+				if(last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & mask;
+			}
+			ks[last] = curr;
+			cs[last] = cs[pos];
+		}
+	}
+
+
+	private void rehash(int newLength) {
+		final int[] oldKeys = keys;
+		final int[] oldCounts = counts;
+		allocate(newLength);
+		final int[] ks = keys;
+		for(int i = 0; i < oldKeys.length; i++) {
+			int k = oldKeys[i];
+			if(k != 0) {
+				int pos = hash(k) & mask;
+				while(ks[pos] != 0) {
+					pos = (pos + 1) & mask;
+				}
+				ks[pos] = k;
+				counts[pos] = oldCounts[i];
+			}
+		}
+	}
+
+
+	private void allocate(int length) {
+		this.keys = new int[length];
+		this.counts = new int[length];
+		this.mask = length - 1;
+		this.threshold = (int)Math.min((long)length * 3 / 4, length - 1);
+	}
+
+
+	private static int hash(int k) {
+		int h = k * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+
+	/** The smallest power of two table length which can hold {@code expectedSize} keys without resizing
+	 */
+	private static int tableSizeFor(int expectedSize) {
+		long needed = Math.max(2, (long)Math.ceil(expectedSize / 0.75) + 1);
+		if(needed > (1 << 30)) {
+			return 1 << 30;
+		}
+		return Integer.highestOneBit((int)needed - 1) << 1;
+	}
+
+}
@@ -0,0 +1,189 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/** A set of {@code int} values in the range {@code [0, maxValue)} backed by a sparse set (a dense array of values and a sparse
+ * array mapping each value to its index in the dense array).<br>
+ * {@link #add(int)}, {@link #contains(int)}, {@link #remove(int)}, and {@link #clear()} are all O(1).
+ * Like {@link Bag}, values are removed by swapping the last value into the removed value's index, so the iteration
+ * order of the values is only equal to their insertion order until a value is removed.<br>
+ * Useful for sets of ids bounded by a known maximum, such as active entities, which are frequently checked, cleared, and refilled.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class IntSparseSet {
+	/** The values in this set, stored at indices {@code [0, size-1]} */
+	private final int[] dense;
+	/** Maps each value to its index in {@link #dense}, entries for values not in this set contain arbitrary data */
+	private final int[] sparse;
+	/** The number of values in this set */
+	private int size;
+
+
+	/** Create an empty set which can contain values in the range {@code [0, maxValue)}
+	 * @param maxValue the exclusive upper bound of values in this set
+	 */
+	public IntSparseSet(int maxValue) {
+		if(maxValue < 0) {
+			throw new IllegalArgumentException("Illegal max value: " + maxValue);
+		}
+		this.dense = new int[maxValue];
+		this.sparse = new int[maxValue];
+		this.size = 0;
+	}
+
+
+	public IntSparseSet copy() {
+		IntSparseSet copy = new IntSparseSet(this.sparse.length);
+		for(int i = 0; i < this.size; i++) {
+			copy.add(this.dense[i]);
+		}
+		return copy;
+	}
+
+
+	/** Get the value at the specified index from this set
+	 * @param index the index between zero and {@link #size()}-1 inclusive to retrieve
+	 * @return the value found at the specified index
+	 */
+	public int get(int index) {
+		if(index < 0 || index >= size) { throw new IndexOutOfBoundsException(index + " of [0, " + size + "]"); }
+		return dense[index];
+	}
+
+
+	/** Add a value to this set
+	 * @param value the value in the range {@code [0, }{@link #maxValue()}{@code )} to add
+	 * @return true if the value was added, false if it was already in this set
+	 */
+	public boolean add(int value) {
+		if(value < 0 || value >= sparse.length) { throw new IndexOutOfBoundsException(value + " of [0, " + sparse.length + ")"); }
+		if(contains(value)) {
+			return false;
+		}
+		dense[size] = value;
+		sparse[value] = size;
+		size++;
+		return true;
+	}
+
+
+	/** Check if this set contains a value
+	 * @param value the value to check for, values outside the range {@code [0, }{@link #maxValue()}{@code )} are never contained in this set
+	 * @return true if this set contains the value, false otherwise
+	 */
+	public boolean contains(int value) {
+		if(value < 0 || value >= sparse.length) {
+			return false;
+		}
+		int idx = sparse[value];
+		return idx < size && dense[idx] == value;
+	}
+
+
+	/** Find the index of a value in this set
+	 * @param value the value to search for
+	 * @return an index between {@code [0, }{@link #size()} {@code - 1]} if the value is
+	 * found, or -1 if the value is not in this set
+	 */
+	public int indexOf(int value) {
+		return contains(value) ? sparse[value] : -1;
+	}
+
+
+	/** Remove a value from this set
+	 * @param value the value to remove
+	 * @return true if the value was removed, false if it was not in this set
+	 */
+	public boolean remove(int value) {
+		if(!contains(value)) {
+			return false;
+		}
+		removeIndex(sparse[value]);
+		return true;
+	}
+
+
+	/** Remove the value at the specified index from this set
+	 * @param index the index between zero and {@link #size()}-1 inclusive to remove
+	 * @return the value found at the specified index
+	 */
+	public int removeIndex(int index) {
+		if(index < 0 || index >= size) { throw new IndexOutOfBoundsException(index + " of [0, " + size + "]"); }
+		int value = dense[index];
+		// Replace the value to remove with the last value
+		int last = dense[size - 1];
+		dense[index] = last;
+		sparse[last] = index;
+		size--;
+		return value;
+	}
+
+
+	/** Remove all values from this set. Runs in constant time since stale {@code sparse} entries are ignored by {@link #contains(int)}
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+
+	/**
+	 * @return the number of values in this set
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	/**
+	 * @return the exclusive upper bound of values that can be stored in this set
+	 */
+	public int maxValue() {
+		return sparse.length;
+	}
+
+
+	public void forEach(IntConsumer action) {
+		for(int i = 0, n = size; i < n; i++) {
+			action.accept(dense[i]);
+		}
+	}
+
+
+	/**
+	 * @return a new array of length {@link #size()} containing the values in this set
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(dense, size);
+	}
+
+
+	/** Warning: This function is available for performance reasons, it is highly recommended to use {@link #get(int)} or {@link #forEach(IntConsumer)}.<br>
+	 * @return the underlying dense array of values used by this set, current implementations store values at index 0 through {@link #size()} - 1
+	 */
+	public int[] getRawArray() {
+		return dense;
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(size > 50 ? 512 : size * 4 + 2);
+		sb.append('[');
+		for(int i = 0; i < size; i++) {
+			if(i > 0) {
+				sb.append(", ");
+			}
+			sb.append(dense[i]);
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,212 @@
+package twg2.collections.dataStructures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/** A reusable, forward-only cursor over a range of a {@link BaseList}, {@link BaseList.SubList}, or {@link ArrayView}.<br>
+ * Unlike {@link BaseList#iterator()} and {@link BaseList.SubList#listIterator()}, which allocate a new iterator per call,
+ * a cursor is created once and then pointed at a list (or a range of a list) by one of the {@code reset()} methods,
+ * so loops which iterate many lists do not generate garbage. Each {@code reset()} method returns this cursor, which is
+ * also an {@link Iterable} that returns itself, so a cursor can be used directly in an enhanced for loop:
+ * <pre>{@code
+ * ListCursor<String> cursor = new ListCursor<>();
+ * for(BaseList<String> list : lists) {
+ *   for(String str : cursor.reset(list)) { ... }
+ * }
+ * }</pre>
+ * Like {@link BaseList.BaseIterator}, a cursor is fail-fast, {@link #next()} throws {@link ConcurrentModificationException}
+ * if the list is structurally modified after the cursor was reset. A cursor does not support {@link #remove()}.<br>
+ * A cursor retains a reference to the last list it was reset to, call {@link #clear()} to release it.
+ * This class is not thread-safe, use one cursor per thread.
+ * @param <E> the type of elements returned by this cursor
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public final class ListCursor<E> implements Iterator<E>, Iterable<E> {
+	private Object[] elements;
+	/** The array index of list index 0 */
+	private int offset;
+	/** The array index of the next element to return */
+	private int index;
+	/** The array index after the last element to return */
+	private int end;
+	private BaseList<?> list;
+	private ArrayView<?> view;
+	private int expectedModCount;
+
+
+	/** Create an empty cursor, call one of the {@code reset()} methods to point it at a list
+	 */
+	public ListCursor() {
+	}
+
+
+	/** Point this cursor at all of the elements of a list
+	 * @return this cursor
+	 */
+	public ListCursor<E> reset(BaseList<? extends E> list) {
+		return reset(list, 0, list.size);
+	}
+
+
+	/** Point this cursor at the elements in the range {@code [fromIndex, toIndex)} of a list
+	 * @return this cursor
+	 * @throws IndexOutOfBoundsException if the range is not within {@code [0, list.size()]}
+	 */
+	public ListCursor<E> reset(BaseList<? extends E> list, int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, list.size);
+		setRange(list.contiguousElements(), 0, fromIndex, toIndex);
+		this.list = list;
+		this.view = null;
+		this.expectedModCount = list.getModCount();
+		return this;
+	}
+
+
+	/** Point this cursor at all of the elements of a sub-list
+	 * @return this cursor
+	 */
+	public ListCursor<E> reset(BaseList.SubList<? extends E> subList) {
+		return reset(subList, 0, subList.size());
+	}
+
+
+	/** Point this cursor at the elements in the range {@code [fromIndex, toIndex)} of a sub-list
+	 * @return this cursor
+	 * @throws IndexOutOfBoundsException if the range is not within {@code [0, subList.size()]}
+	 * @throws ConcurrentModificationException if the sub-list's parent list was modified after the sub-list was created
+	 */
+	public ListCursor<E> reset(BaseList.SubList<? extends E> subList, int fromIndex, int toIndex) {
+		subList.checkModCount();
+		Objects.checkFromToIndex(fromIndex, toIndex, subList.size);
+		BaseList<?> root = subList.root;
+		setRange(root.contiguousElements(), subList.offset, fromIndex, toIndex);
+		this.list = root;
+		this.view = null;
+		this.expectedModCount = root.getModCount();
+		return this;
+	}
+
+
+	/** Point this cursor at all of the elements of an array view
+	 * @return this cursor
+	 */
+	public ListCursor<E> reset(ArrayView<? extends E> view) {
+		return reset(view, 0, view.len);
+	}
+
+
+	/** Point this cursor at the elements in the range {@code [fromIndex, toIndex)} of an array view
+	 * @return this cursor
+	 * @throws IndexOutOfBoundsException if the range is not within {@code [0, view.size()]}
+	 */
+	public ListCursor<E> reset(ArrayView<? extends E> view, int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, view.len);
+		setRange(view.objs, view.off, fromIndex, toIndex);
+		this.list = null;
+		this.view = view;
+		this.expectedModCount = view.mod;
+		return this;
+	}
+
+
+	/** Move this cursor back to a previously returned {@link #nextIndex()} within the current range
+	 * @param mark the list index of the next element to return
+	 * @throws IndexOutOfBoundsException if {@code mark} is outside the range this cursor was reset to
+	 */
+	public void rewind(int mark) {
+		int i = offset + mark;
+		if(mark < 0 || i > end) {
+			throw new IndexOutOfBoundsException(mark + " of [0, " + (end - offset) + "]");
+		}
+		index = i;
+	}
+
+
+	/** Releases the list this cursor points to and leaves this cursor empty
+	 */
+	public void clear() {
+		this.elements = null;
+		this.list = null;
+		this.view = null;
+		this.offset = 0;
+		this.index = 0;
+		this.end = 0;
+	}
+
+
+	/**
+	 * @return the list index of the element that will be returned by the next call to {@link #next()}
+	 */
+	public int nextIndex() {
+		return index - offset;
+	}
+
+
+	@Override
+	public boolean hasNext() {
+		return index < end;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E next() {
+		checkModCount();
+		int i = index;
+		if(i >= end) {
+			throw new NoSuchElementException();
+		}
+		index = i + 1;
+		return (E)array()[i];
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEachRemaining(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		final Object[] es = array();
+		int i = index;
+		for(final int end = this.end; i < end; i++) {
+			action.accept((E)es[i]);
+		}
+		index = i;
+		checkModCount();
+	}
+
+
+	/**
+	 * @return this cursor
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return this;
+	}
+
+
+	private void setRange(Object[] elements, int offset, int fromIndex, int toIndex) {
+		this.elements = elements;
+		this.offset = offset;
+		this.index = offset + fromIndex;
+		this.end = offset + toIndex;
+	}
+
+
+	/** The current array of the list or view, a list's array can be replaced without a structural modification (see {@link BaseList#snapshot()})
+	 */
+	private Object[] array() {
+		return list != null ? list.elements : elements;
+	}
+
+
+	private void checkModCount() {
+		if((list != null && list.getModCount() != expectedModCount) || (view != null && view.mod != expectedModCount)) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+}
@@ -0,0 +1,305 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/** A frequency map, like {@link FrequencyMap}, specialized for {@code int} frequencies.<br>
+ * Keys and counts are stored in parallel arrays in an open addressing (linear probing) hash table, so incrementing the count of
+ * an existing key updates a {@code int} in place and never allocates, unlike {@link FrequencyMap} which boxes a new count on every update.
+ * Removing a key shifts the following keys in its probe sequence back rather than leaving a tombstone.<br>
+ * The count of a key that is not in the map is 0, so {@link #get(Object)} and the {@code getAnd*()} methods return 0 rather than
+ * null for missing keys, use {@link #contains(Object)} to distinguish a missing key from a key with a count of 0.
+ * Null keys are permitted. This class is not thread-safe.
+ * @param <K> the type of keys in this map
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ObjIntFrequencyMap<K> {
+	private static final int DEFAULT_CAPACITY = 16;
+	/** Stands in for the null key so that null can mark empty slots */
+	private static final Object NULL_KEY = new Object();
+
+	/** The hash table keys, a null entry is an empty slot, the length is always a power of two */
+	private Object[] keys;
+	/** The count of each key, parallel to {@link #keys} */
+	private int[] counts;
+	private int mask;
+	private int size;
+	/** The size at which the table is doubled, 3/4 of the table length */
+	private int threshold;
+
+
+	public ObjIntFrequencyMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+
+	/**
+	 * @param expectedSize the number of keys this map can hold before its table is resized
+	 */
+	public ObjIntFrequencyMap(int expectedSize) {
+		if(expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+		}
+		allocate(tableSizeFor(expectedSize));
+	}
+
+
+	public boolean contains(K key) {
+		return find(maskNull(key)) >= 0;
+	}
+
+
+	public int size() {
+		return size;
+	}
+
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	/**
+	 * @return the count of the key, 0 if the key is not in this map
+	 */
+	public int get(K key) {
+		int pos = find(maskNull(key));
+		return pos >= 0 ? counts[pos] : 0;
+	}
+
+
+	/** Remove a key from this map
+	 * @return the key's count, 0 if the key was not in this map
+	 */
+	public int remove(K key) {
+		int pos = find(maskNull(key));
+		if(pos < 0) {
+			return 0;
+		}
+		int oldCount = counts[pos];
+		size--;
+		shiftKeys(pos);
+		return oldCount;
+	}
+
+
+	public void clear() {
+		Arrays.fill(keys, null);
+		Arrays.fill(counts, 0);
+		size = 0;
+	}
+
+
+	public void increment(K key) {
+		getAndAdd(key, 1);
+	}
+
+
+	public void decrement(K key) {
+		getAndAdd(key, -1);
+	}
+
+
+	public int getAndIncrement(K key) {
+		return getAndAdd(key, 1);
+	}
+
+
+	public int getAndDecrement(K key) {
+		return getAndAdd(key, -1);
+	}
+
+
+	public void add(K key, int value) {
+		getAndAdd(key, value);
+	}
+
+
+	public void subtract(K key, int value) {
+		getAndAdd(key, -value);
+	}
+
+
+	/** Add a value to a key's count, adding the key with a count of {@code add} if it is not in this map
+	 * @return the key's previous count, 0 if the key was not in this map
+	 */
+	public int getAndAdd(K key, int add) {
+		int pos = insert(maskNull(key));
+		int oldCount = counts[pos];
+		counts[pos] = oldCount + add;
+		return oldCount;
+	}
+
+
+	/** Add a value to a key's count, adding the key with a count of {@code add} if it is not in this map
+	 * @return the key's new count
+	 */
+	public int addAndGet(K key, int add) {
+		int pos = insert(maskNull(key));
+		return counts[pos] += add;
+	}
+
+
+	/** Call an action for each key and count in this map, in table order
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(ObjIntConsumer<? super K> action) {
+		Objects.requireNonNull(action);
+		final Object[] ks = keys;
+		final int[] cs = counts;
+		for(int i = 0; i < ks.length; i++) {
+			Object k = ks[i];
+			if(k != null) {
+				action.accept((K)unmaskNull(k), cs[i]);
+			}
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(size * 8 + 2);
+		sb.append('{');
+		boolean first = true;
+		for(int i = 0; i < keys.length; i++) {
+			Object k = keys[i];
+			if(k != null) {
+				if(!first) {
+					sb.append(", ");
+				}
+				sb.append(unmaskNull(k)).append('=').append(counts[i]);
+				first = false;
+			}
+		}
+		return sb.append('}').toString();
+	}
+
+
+	/**
+	 * @return the table index of the key, or -1 if it is not in this map
+	 */
+	private int find(Object k) {
+		final Object[] ks = keys;
+		int pos = hash(k) & mask;
+		Object curr;
+		while((curr = ks[pos]) != null) {
+			if(curr == k || curr.equals(k)) {
+				return pos;
+			}
+			pos = (pos + 1) & mask;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @return the table index of the key, adding it with a count of 0 if it is not in this map
+	 */
+	private int insert(Object k) {
+		Object[] ks = keys;
+		int pos = hash(k) & mask;
+		Object curr;
+		while((curr = ks[pos]) != null) {
+			if(curr == k || curr.equals(k)) {
+				return pos;
+			}
+			pos = (pos + 1) & mask;
+		}
+		if(size >= threshold) {
+			rehash(keys.length * 2);
+			ks = keys;
+			pos = hash(k) & mask;
+			while(ks[pos] != null) {
+				pos = (pos + 1) & mask;
+			}
+		}
+		ks[pos] = k;
+		size++;
+		return pos;
+	}
+
+
+	/** Fill the slot at {@code pos} by moving back the following keys in its probe sequence which hash at or before {@code pos}
+	 */
+	private void shiftKeys(int pos) {
+		final Object[] ks = keys;
+		final int[] cs = counts;
+		for(;;) {
+			int last = pos;
+			pos = (pos + 1) & mask;
+			Object curr;
+			for(;;) {
+				if((curr = ks[pos]) == null) {
+					ks[last] = null;
+					cs[last] = 0;
+					return;
+				}
+				int slot = hash(curr) & mask;
+				// move the key if its home slot is not in the cyclic range (last, pos]
+				if(last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & mask;
+			}
+			ks[last] = curr;
+			cs[last] = cs[pos];
+		}
+	}
+
+
+	private void rehash(int newLength) {
+		final Object[] oldKeys = keys;
+		final int[] oldCounts = counts;
+		allocate(newLength);
+		final Object[] ks = keys;
+		for(int i = 0; i < oldKeys.length; i++) {
+			Object k = oldKeys[i];
+			if(k != null) {
+				int pos = hash(k) & mask;
+				while(ks[pos] != null) {
+					pos = (pos + 1) & mask;
+				}
+				ks[pos] = k;
+				counts[pos] = oldCounts[i];
+			}
+		}
+	}
+
+
+	private void allocate(int length) {
+		this.keys = new Object[length];
+		this.counts = new int[length];
+		this.mask = length - 1;
+		this.threshold = (int)Math.min((long)length * 3 / 4, length - 1);
+	}
+
+
+	private static int hash(Object k) {
+		int h = k.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+
+	/** The smallest power of two table length which can hold {@code expectedSize} keys without resizing
+	 */
+	private static int tableSizeFor(int expectedSize) {
+		long needed = Math.max(2, (long)Math.ceil(expectedSize / 0.75) + 1);
+		if(needed > (1 << 30)) {
+			return 1 << 30;
+		}
+		return Integer.highestOneBit((int)needed - 1) << 1;
+	}
+
+
+	private static Object maskNull(Object key) {
+		return key == null ? NULL_KEY : key;
+	}
+
+
+	private static Object unmaskNull(Object key) {
+		return key == NULL_KEY ? null : key;
+	}
+
+}
@@ -0,0 +1,518 @@
+package twg2.collections.dataStructures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import twg2.collections.interfaces.ListReadOnly;
+
+/** An immutable, persistent list which shares structure between versions.
+ * Elements are stored in a 32-way trie of arrays plus a 'tail' array holding the last 1-32 elements (the same layout as Clojure's vector).
+ * Every modifying operation returns a new vector and leaves this vector unchanged, copying only the O(log32 n) trie nodes
+ * on the path to the modified element, so different versions of a vector can be shared between threads without copying or locking.<br>
+ * {@link #get(int)}, {@link #set(int, Object)}, and {@link #removeLast()} are O(log32 n), {@link #append(Object)} is O(1) amortized,
+ * {@link #slice(int, int)} is O(log32 n) (a slice shares the trie with its parent vector, only the nodes on its left and right edges are copied),
+ * and {@link #concat(Iterable)} is O(m) in the number of elements being appended.<br>
+ * Permits all elements, including {@code null}. Instances are immutable and thread-safe.
+ * @param <E> the type of elements in this vector
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public final class PersistentVector<E> implements ListReadOnly<E> {
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+	/** Root node of vectors whose elements all fit in the tail, never modified */
+	private static final Object[] EMPTY_ROOT = new Object[WIDTH];
+	private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, BITS, EMPTY_ROOT, new Object[0]);
+
+	/** The trie index of this vector's first element, non-zero for vectors created by {@link #slice(int, int)} */
+	private final int start;
+	/** The number of elements in this vector */
+	private final int size;
+	/** The number of index bits below the root node's level, a multiple of {@link #BITS} */
+	private final int shift;
+	/** The root node of the trie, internal nodes are arrays of child nodes and leaf nodes are arrays of elements */
+	private final Object[] root;
+	/** The elements at trie indices {@code [tailOffset(), start + size)}, stored at {@code index & MASK} */
+	private final Object[] tail;
+
+
+	private PersistentVector(int start, int size, int shift, Object[] root, Object[] tail) {
+		this.start = start;
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+
+	/**
+	 * @return an empty vector
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentVector<E> empty() {
+		return (PersistentVector<E>)EMPTY;
+	}
+
+
+	/**
+	 * @return a vector containing the specified elements
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <E> PersistentVector<E> of(E... elems) {
+		return PersistentVector.<E>empty().concat(Arrays.asList(elems));
+	}
+
+
+	/**
+	 * @return a vector containing the specified elements, in iteration order
+	 */
+	public static <E> PersistentVector<E> from(Iterable<? extends E> elems) {
+		return PersistentVector.<E>empty().concat(elems);
+	}
+
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Objects.checkIndex(index, size);
+		int i = start + index;
+		return (E)arrayFor(i)[i & MASK];
+	}
+
+
+	/** Returns a vector with the element at the specified index replaced by the specified element
+	 * @param index the index of the element to replace
+	 * @param element the new element
+	 * @return a new vector, this vector is not modified
+	 * @throws IndexOutOfBoundsException if the index is out of range {@code [0, size())}
+	 */
+	public PersistentVector<E> set(int index, E element) {
+		Objects.checkIndex(index, size);
+		int i = start + index;
+		if(i >= tailOffset(start + size)) {
+			Object[] newTail = tail.clone();
+			newTail[i & MASK] = element;
+			return new PersistentVector<>(start, size, shift, root, newTail);
+		}
+		return new PersistentVector<>(start, size, shift, assoc(shift, root, i, element), tail);
+	}
+
+
+	/** Returns a vector with the specified element appended to the end of this vector
+	 * @param element the element to append
+	 * @return a new vector, this vector is not modified
+	 */
+	public PersistentVector<E> append(E element) {
+		final int end = start + size;
+		final int tailOff = tailOffset(end);
+		if(end - tailOff < WIDTH) {
+			Object[] newTail = Arrays.copyOf(tail, end - tailOff + 1);
+			newTail[end - tailOff] = element;
+			return new PersistentVector<>(start, size + 1, shift, root, newTail);
+		}
+		// the tail is full, push it into the trie
+		int newShift = shift;
+		Object[] newRoot;
+		if((end >>> BITS) > (1 << shift)) {
+			newRoot = new Object[WIDTH];
+			newRoot[0] = root;
+			newRoot[1] = newPath(shift, tail);
+			newShift += BITS;
+		}
+		else {
+			newRoot = pushTail(shift, root, tail, tailOff);
+		}
+		return new PersistentVector<>(start, size + 1, newShift, newRoot, new Object[] { element });
+	}
+
+
+	/** Returns a vector containing this vector's elements followed by the specified elements
+	 * @param elems the elements to append
+	 * @return a new vector, this vector is not modified
+	 */
+	public PersistentVector<E> concat(Iterable<? extends E> elems) {
+		int end = start + size;
+		int tailOff = tailOffset(end);
+		int tailLen = end - tailOff;
+		int newShift = shift;
+		Object[] newRoot = root;
+		Object[] newTail = Arrays.copyOf(tail, WIDTH);
+		for(E elem : elems) {
+			if(tailLen == WIDTH) {
+				if((end >>> BITS) > (1 << newShift)) {
+					Object[] r = new Object[WIDTH];
+					r[0] = newRoot;
+					r[1] = newPath(newShift, newTail);
+					newRoot = r;
+					newShift += BITS;
+				}
+				else {
+					newRoot = pushTail(newShift, newRoot, newTail, tailOff);
+				}
+				newTail = new Object[WIDTH];
+				tailOff = end;
+				tailLen = 0;
+			}
+			newTail[tailLen++] = elem;
+			end++;
+		}
+		if(end == start + size) {
+			return this;
+		}
+		return new PersistentVector<>(start, end - start, newShift, newRoot, tailLen == WIDTH ? newTail : Arrays.copyOf(newTail, tailLen));
+	}
+
+
+	/** Returns a vector without this vector's last element
+	 * @return a new vector, this vector is not modified
+	 * @throws NoSuchElementException if this vector is empty
+	 */
+	public PersistentVector<E> removeLast() {
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+		if(size == 1) {
+			return empty();
+		}
+		final int end = start + size;
+		final int tailOff = tailOffset(end);
+		if(end - tailOff > 1) {
+			return new PersistentVector<>(start, size - 1, shift, root, Arrays.copyOf(tail, end - tailOff - 1));
+		}
+		// the tail only contains the last element, the trie's last leaf becomes the new tail
+		Object[] newTail = arrayFor(end - 2);
+		Object[] newRoot = tailOff - WIDTH > 0 ? trimRight(shift, root, tailOff - WIDTH - 1) : EMPTY_ROOT;
+		return create(start, size - 1, shift, newRoot, newTail);
+	}
+
+
+	/** Returns a view of the elements in the range {@code [fromIndex, toIndex)} of this vector as a new vector.
+	 * The new vector shares the trie nodes of this vector, only the nodes on the left and right edges of the range are copied.
+	 * @param fromIndex the index of the first element, inclusive
+	 * @param toIndex the index of the last element, exclusive
+	 * @return a new vector, this vector is not modified
+	 * @throws IndexOutOfBoundsException if {@code fromIndex < 0 || toIndex > size() || fromIndex > toIndex}
+	 */
+	public PersistentVector<E> slice(int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, size);
+		if(fromIndex == 0 && toIndex == size) {
+			return this;
+		}
+		if(fromIndex == toIndex) {
+			return empty();
+		}
+		final int newStart = start + fromIndex;
+		final int newEnd = start + toIndex;
+		final int tailOff = tailOffset(start + size);
+		final int newTailOff = tailOffset(newEnd);
+		Object[] newRoot;
+		Object[] newTail;
+		if(newEnd > tailOff) {
+			newRoot = root;
+			newTail = Arrays.copyOf(tail, newEnd - tailOff);
+		}
+		else {
+			// the leaf containing the new last element becomes the tail
+			newTail = Arrays.copyOf(arrayFor(newEnd - 1), newEnd - newTailOff);
+			newRoot = newTailOff > 0 ? trimRight(shift, root, newTailOff - 1) : EMPTY_ROOT;
+		}
+
+		if(newStart < newTailOff) {
+			newRoot = trimLeft(shift, newRoot, newStart);
+		}
+		else {
+			Arrays.fill(newTail, 0, newStart - newTailOff, null);
+		}
+		return create(newStart, toIndex - fromIndex, shift, newRoot, newTail);
+	}
+
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+
+	@Override
+	public int indexOf(Object o) {
+		for(int i = 0; i < size; ) {
+			int t = start + i;
+			Object[] leaf = arrayFor(t);
+			for(int j = t & MASK, n = Math.min(WIDTH, j + size - i); j < n; j++, i++) {
+				if(Objects.equals(o, leaf[j])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	@Override
+	public int lastIndexOf(Object o) {
+		for(int i = size - 1; i >= 0; ) {
+			int t = start + i;
+			Object[] leaf = arrayFor(t);
+			for(int j = t & MASK; j >= 0 && i >= 0; j--, i--) {
+				if(Objects.equals(o, leaf[j])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	@Override
+	public Object[] toArray() {
+		Object[] res = new Object[size];
+		copyTo(res);
+		return res;
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if(a.length < size) {
+			a = (T[])java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+		}
+		copyTo(a);
+		if(a.length > size) {
+			a[size] = null;
+		}
+		return a;
+	}
+
+
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		Objects.requireNonNull(action);
+		for(int i = 0; i < size; ) {
+			int t = start + i;
+			Object[] leaf = arrayFor(t);
+			for(int j = t & MASK, n = Math.min(WIDTH, j + size - i); j < n; j++, i++) {
+				@SuppressWarnings("unchecked")
+				E e = (E)leaf[j];
+				action.accept(e);
+			}
+		}
+	}
+
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private int i = 0;
+			private Object[] leaf;
+
+			@Override
+			public boolean hasNext() {
+				return i < size;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if(i >= size) {
+					throw new NoSuchElementException();
+				}
+				int t = start + i;
+				if(leaf == null || (t & MASK) == 0) {
+					leaf = arrayFor(t);
+				}
+				i++;
+				return (E)leaf[t & MASK];
+			}
+		};
+	}
+
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for(E e : this) {
+			hashCode = 31 * hashCode + (e == null ? 0 : e.hashCode());
+		}
+		return hashCode;
+	}
+
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj == this) {
+			return true;
+		}
+		if(!(obj instanceof PersistentVector)) {
+			return false;
+		}
+		PersistentVector<?> other = (PersistentVector<?>)obj;
+		if(other.size != size) {
+			return false;
+		}
+		Iterator<?> iter = other.iterator();
+		for(E e : this) {
+			if(!Objects.equals(e, iter.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		int i = 0;
+		for(E e : this) {
+			if(i > 0) {
+				sb.append(", ");
+			}
+			sb.append(e);
+			i++;
+		}
+		sb.append(']');
+		return sb.toString();
+	}
+
+
+	private void copyTo(Object[] dst) {
+		for(int i = 0; i < size; ) {
+			int t = start + i;
+			int off = t & MASK;
+			int n = Math.min(WIDTH - off, size - i);
+			System.arraycopy(arrayFor(t), off, dst, i, n);
+			i += n;
+		}
+	}
+
+
+	/** Returns the leaf array (or tail) containing the element at the specified trie index
+	 */
+	private Object[] arrayFor(int i) {
+		if(i >= tailOffset(start + size)) {
+			return tail;
+		}
+		Object[] node = root;
+		for(int level = shift; level > 0; level -= BITS) {
+			node = (Object[])node[(i >>> level) & MASK];
+		}
+		return node;
+	}
+
+
+	/** Create a vector, dropping trie levels (and re-basing the start index) that are not needed to reach this vector's elements
+	 */
+	private static <E> PersistentVector<E> create(int start, int size, int shift, Object[] root, Object[] tail) {
+		int tailOff = tailOffset(start + size);
+		if(start >= tailOff) {
+			// all of the elements are in the tail
+			return new PersistentVector<>(start - tailOff, size, BITS, EMPTY_ROOT, tail);
+		}
+		while(shift > BITS && (start >>> shift) == ((tailOff - 1) >>> shift)) {
+			int child = start >>> shift;
+			root = (Object[])root[child];
+			start -= child << shift;
+			tailOff -= child << shift;
+			shift -= BITS;
+		}
+		return new PersistentVector<>(start, size, shift, root, tail);
+	}
+
+
+	/** The trie index of the first element in the tail of a vector whose last trie index is {@code end - 1}
+	 */
+	private static int tailOffset(int end) {
+		return end == 0 ? 0 : ((end - 1) >>> BITS) << BITS;
+	}
+
+
+	private static Object[] pushTail(int level, Object[] parent, Object[] tailNode, int tailOff) {
+		int subIdx = (tailOff >>> level) & MASK;
+		Object[] res = parent.clone();
+		Object[] node;
+		if(level == BITS) {
+			node = tailNode;
+		}
+		else {
+			Object[] child = (Object[])parent[subIdx];
+			node = (child != null ? pushTail(level - BITS, child, tailNode, tailOff) : newPath(level - BITS, tailNode));
+		}
+		res[subIdx] = node;
+		return res;
+	}
+
+
+	private static Object[] newPath(int level, Object[] node) {
+		if(level == 0) {
+			return node;
+		}
+		Object[] res = new Object[WIDTH];
+		res[0] = newPath(level - BITS, node);
+		return res;
+	}
+
+
+	private static Object[] assoc(int level, Object[] node, int i, Object val) {
+		Object[] res = node.clone();
+		if(level == 0) {
+			res[i & MASK] = val;
+		}
+		else {
+			int subIdx = (i >>> level) & MASK;
+			res[subIdx] = assoc(level - BITS, (Object[])node[subIdx], i, val);
+		}
+		return res;
+	}
+
+
+	/** Copy the nodes on the path to trie index {@code last} (the last index of a leaf), dropping every node after that path
+	 */
+	private static Object[] trimRight(int level, Object[] node, int last) {
+		int subIdx = (last >>> level) & MASK;
+		Object[] res = new Object[WIDTH];
+		System.arraycopy(node, 0, res, 0, subIdx + 1);
+		if(level > BITS) {
+			res[subIdx] = trimRight(level - BITS, (Object[])node[subIdx], last);
+		}
+		return res;
+	}
+
+
+	/** Copy the nodes on the path to trie index {@code first}, dropping every node and element before that path
+	 */
+	private static Object[] trimLeft(int level, Object[] node, int first) {
+		int subIdx = (first >>> level) & MASK;
+		Object[] res = node.clone();
+		Arrays.fill(res, 0, subIdx, null);
+		Object[] child = (Object[])node[subIdx];
+		if(level > BITS) {
+			res[subIdx] = trimLeft(level - BITS, child, first);
+		}
+		else if((first & MASK) != 0) {
+			Object[] leaf = child.clone();
+			Arrays.fill(leaf, 0, first & MASK, null);
+			res[subIdx] = leaf;
+		}
+		return res;
+	}
+
+}
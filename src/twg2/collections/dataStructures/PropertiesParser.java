@@ -0,0 +1,279 @@
+package twg2.collections.dataStructures;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/** A single pass parser for the {@code .properties} format read by {@link java.util.Properties#load(java.io.Reader)},
+ * which puts each key-value pair directly into a destination map rather than into a {@link java.util.Properties} (a synchronized {@link java.util.Hashtable}).<br>
+ * The syntax and escaping rules are the same as {@link java.util.Properties#load(java.io.Reader)}: comment lines start with {@code #} or {@code !},
+ * a line ending with an odd number of backslashes continues on the next line (with leading whitespace removed), keys end at the first
+ * unescaped {@code =}, {@code :}, or whitespace, and {@code \t}, {@code \n}, {@code \r}, {@code \f}, and {@code \}{@code uXXXX}
+ * escapes are decoded in keys and values. If a key appears more than once, the last value wins.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+final class PropertiesParser {
+
+	private PropertiesParser() { throw new AssertionError("cannot instantiate static class PropertiesParser"); }
+
+
+	/** Parse ISO 8859-1 encoded properties, the encoding used by {@link java.util.Properties#load(java.io.InputStream)}
+	 * @param src the bytes to parse from position 0 to the buffer's limit, the buffer's position is not modified
+	 * @param dst the map to put the properties into
+	 */
+	public static void parseLatin1(ByteBuffer src, Map<String, String> dst) {
+		parse(new Latin1Sequence(src), dst);
+	}
+
+
+	/** Parse properties
+	 * @param src the characters to parse
+	 * @param dst the map to put the properties into
+	 * @throws IllegalArgumentException if the input contains a malformed {@code \}{@code uXXXX} escape
+	 */
+	public static void parse(CharSequence src, Map<String, String> dst) {
+		final int n = src.length();
+		char[] line = new char[128];
+		char[] convBuf = new char[128];
+		int pos = 0;
+		boolean skipLF = false;
+		while(true) {
+			// read a logical line, joining continued natural lines, following the same steps as Properties.LineReader
+			int len = 0;
+			boolean skipWhiteSpace = true;
+			boolean appendedLineBegin = false;
+			boolean precedingBackslash = false;
+			while(true) {
+				if(pos >= n) {
+					if(len == 0) {
+						return;
+					}
+					// a backslash at the end of the input has nothing to continue
+					if(precedingBackslash) {
+						len--;
+					}
+					break;
+				}
+				char c = src.charAt(pos++);
+				if(skipLF) {
+					skipLF = false;
+					if(c == '\n') {
+						continue;
+					}
+				}
+				// skip leading whitespace, and blank lines unless they follow a continued line
+				if(skipWhiteSpace) {
+					if(c == ' ' || c == '\t' || c == '\f') {
+						continue;
+					}
+					if(!appendedLineBegin && (c == '\r' || c == '\n')) {
+						continue;
+					}
+					skipWhiteSpace = false;
+					appendedLineBegin = false;
+				}
+				// a comment can start a logical line or follow a continued line which is still empty
+				if(len == 0 && (c == '#' || c == '!')) {
+					while(pos < n) {
+						c = src.charAt(pos++);
+						if(c == '\n' || c == '\r') {
+							break;
+						}
+					}
+					skipWhiteSpace = true;
+					continue;
+				}
+
+				if(c != '\n' && c != '\r') {
+					if(len == line.length) {
+						line = grow(line, len + 1);
+					}
+					line[len++] = c;
+					precedingBackslash = (c == '\\' ? !precedingBackslash : false);
+				}
+				else {
+					if(len == 0) {
+						skipWhiteSpace = true;
+						continue;
+					}
+					if(pos >= n) {
+						if(precedingBackslash) {
+							len--;
+						}
+						break;
+					}
+					if(!precedingBackslash) {
+						break;
+					}
+					// remove the backslash, the continuation line's leading whitespace is skipped
+					len--;
+					skipWhiteSpace = true;
+					appendedLineBegin = true;
+					precedingBackslash = false;
+					if(c == '\r') {
+						skipLF = true;
+					}
+				}
+			}
+
+			// split the key and value
+			int keyLen = 0;
+			int valueStart = len;
+			boolean hasSep = false;
+			precedingBackslash = false;
+			while(keyLen < len) {
+				char c = line[keyLen];
+				if((c == '=' || c == ':') && !precedingBackslash) {
+					valueStart = keyLen + 1;
+					hasSep = true;
+					break;
+				}
+				else if((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+					valueStart = keyLen + 1;
+					break;
+				}
+				precedingBackslash = (c == '\\' ? !precedingBackslash : false);
+				keyLen++;
+			}
+			while(valueStart < len) {
+				char c = line[valueStart];
+				if(c != ' ' && c != '\t' && c != '\f') {
+					if(!hasSep && (c == '=' || c == ':')) {
+						hasSep = true;
+					}
+					else {
+						break;
+					}
+				}
+				valueStart++;
+			}
+
+			if(convBuf.length < len) {
+				convBuf = new char[line.length];
+			}
+			String key = unescape(line, 0, keyLen, convBuf);
+			String value = unescape(line, valueStart, len - valueStart, convBuf);
+			dst.put(key, value);
+		}
+	}
+
+
+	/** Decode the escapes in a key or value
+	 */
+	private static String unescape(char[] in, int off, int len, char[] out) {
+		final int end = off + len;
+		// fast path, most keys and values do not contain escapes
+		int i = off;
+		while(i < end && in[i] != '\\') {
+			i++;
+		}
+		if(i == end) {
+			return new String(in, off, len);
+		}
+
+		int outLen = i - off;
+		System.arraycopy(in, off, out, 0, outLen);
+		while(i < end) {
+			char c = in[i++];
+			if(c == '\\') {
+				if(i == end) {
+					break;
+				}
+				c = in[i++];
+				if(c == 'u') {
+					if(end - i < 4) {
+						throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+					}
+					int value = 0;
+					for(int j = 0; j < 4; j++) {
+						int digit = hexDigit(in[i++]);
+						if(digit < 0) {
+							throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+						}
+						value = (value << 4) | digit;
+					}
+					c = (char)value;
+				}
+				else if(c == 't') { c = '\t'; }
+				else if(c == 'r') { c = '\r'; }
+				else if(c == 'n') { c = '\n'; }
+				else if(c == 'f') { c = '\f'; }
+			}
+			out[outLen++] = c;
+		}
+		return new String(out, 0, outLen);
+	}
+
+
+	/** Only ASCII hex digits are valid in a {@code \}{@code uXXXX} escape, unlike {@link Character#digit(char, int)}
+	 */
+	private static int hexDigit(char c) {
+		if(c >= '0' && c <= '9') { return c - '0'; }
+		if(c >= 'a' && c <= 'f') { return c - 'a' + 10; }
+		if(c >= 'A' && c <= 'F') { return c - 'A' + 10; }
+		return -1;
+	}
+
+
+	private static char[] grow(char[] buf, int minLength) {
+		char[] res = new char[Math.max(minLength, buf.length * 2)];
+		System.arraycopy(buf, 0, res, 0, buf.length);
+		return res;
+	}
+
+
+
+
+	/** A {@link CharSequence} view of ISO 8859-1 bytes, each byte is one character
+	 */
+	private static final class Latin1Sequence implements CharSequence {
+		private final ByteBuffer buf;
+		private final int off;
+		private final int len;
+
+
+		Latin1Sequence(ByteBuffer buf) {
+			this(buf, 0, buf.limit());
+		}
+
+
+		Latin1Sequence(ByteBuffer buf, int off, int len) {
+			this.buf = buf;
+			this.off = off;
+			this.len = len;
+		}
+
+
+		@Override
+		public int length() {
+			return len;
+		}
+
+
+		@Override
+		public char charAt(int index) {
+			return (char)(buf.get(off + index) & 0xFF);
+		}
+
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if(start < 0 || start > end || end > len) {
+				throw new IndexOutOfBoundsException("[" + start + ", " + end + ") of [0, " + len + ")");
+			}
+			return new Latin1Sequence(buf, off + start, end - start);
+		}
+
+
+		@Override
+		public String toString() {
+			char[] chars = new char[len];
+			for(int i = 0; i < len; i++) {
+				chars[i] = charAt(i);
+			}
+			return new String(chars);
+		}
+
+	}
+
+}
@@ -10,22 +10,46 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /** A utility to manage various properties, such as floats, ints, booleans, colors, etc.
  * These values are stored in the map passed to this class' constructor {@link #PropertyMap(Map)}.<br/>
+ * Frequently read properties can be accessed through typed handles, such as {@link #intProperty(String, int)}, which cache the parsed
+ * value until a property in this map is set, so that a read is a field comparison instead of a map lookup and parse.<br/>
+ * A property map is only as thread-safe as its maps, use {@link #concurrent(Map)} to create a property map which can be shared by many threads.<br/>
  * @author TeamworkGuy2
  * @since 2014-4-11
  */
 public class PropertyMap {
+	private static final VarHandle VERSION;
+
+	static {
+		try {
+			VERSION = MethodHandles.lookup().findVarHandle(PropertyMap.class, "version", int.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
 	private Map<String, String> properties;
 	private Map<String, String> usedProperties;
+	/** Atomically incremented by each {@link #setString(String, String)}, {@link Handle}s re-read their property when this changes */
+	private volatile int version;
 
 
 	public PropertyMap() {
@@ -43,6 +67,24 @@ public class PropertyMap {
 	}
 
 
+	PropertyMap(Map<String, String> map, Map<String, String> usedMap) {
+		this.properties = map;
+		this.usedProperties = usedMap;
+	}
+
+
+	/** Create a thread-safe property map containing a copy of the specified properties.<br/>
+	 * The properties and used properties are stored in {@link ConcurrentHashMap}s so reads never lock, and reading a property
+	 * which is already marked as used does not write to the used properties map, so many threads can read the same properties without contention.
+	 * {@link Handle}s created from the returned map can also be shared between threads.
+	 * Like {@link ConcurrentHashMap}, the returned map does not permit null property values.
+	 * @param properties the initial properties, copied into the new property map
+	 */
+	public static PropertyMap concurrent(Map<String, String> properties) {
+		return new PropertyMap(new ConcurrentHashMap<>(properties), new ConcurrentHashMap<>());
+	}
+
+
 	public void store(OutputStream os, String comments) {
 		Properties props = _propertyMapToProperties(this);
 		try {
@@ -104,7 +146,8 @@ public class PropertyMap {
 	 */
 	public String getString(String name) {
 		String str = properties.get(name);
-		if(str != null) {
+		// only write when the used value changes, so repeated reads of a property do not write
+		if(str != null && usedProperties.get(name) != str) {
 			usedProperties.put(name, str);
 		}
 		return str;
@@ -119,6 +162,7 @@ public class PropertyMap {
 	public void setString(String name, String value) {
 		properties.put(name, value);
 		usedProperties.put(name, value);
+		VERSION.getAndAdd(this, 1);
 	}
 
 
@@ -366,51 +410,163 @@ public class PropertyMap {
 	}
 
 
+	/** Create a handle which caches {@link #accessString(String, String)}
+	 */
+	public Property<String> stringProperty(String name, String defaultValue) {
+		return new Property<>(this, name, (map) -> map.accessString(name, defaultValue));
+	}
+
+
+	/** Create a handle which caches {@link #accessBoolean(String, boolean)}
+	 */
+	public BooleanProperty booleanProperty(String name, boolean defaultValue) {
+		return new BooleanProperty(this, name, defaultValue);
+	}
+
+
+	/** Create a handle which caches {@link #accessInt(String, int)}
+	 */
+	public IntProperty intProperty(String name, int defaultValue) {
+		return new IntProperty(this, name, defaultValue, Integer.MIN_VALUE, Integer.MAX_VALUE, false);
+	}
+
+
+	/** Create a handle which caches {@link #accessInt(String, int, int, int)}
+	 */
+	public IntProperty intProperty(String name, int defaultValue, int min, int max) {
+		return new IntProperty(this, name, defaultValue, min, max, false);
+	}
+
+
+	/** Create a handle which caches {@link #accessHex(String, int)}
+	 */
+	public IntProperty hexProperty(String name, int defaultValue) {
+		return new IntProperty(this, name, defaultValue, Integer.MIN_VALUE, Integer.MAX_VALUE, true);
+	}
+
+
+	/** Create a handle which caches {@link #accessFloat(String, float)}
+	 */
+	public FloatProperty floatProperty(String name, float defaultValue) {
+		return new FloatProperty(this, name, defaultValue, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+	}
+
+
+	/** Create a handle which caches {@link #accessFloat(String, float, float, float)}
+	 */
+	public FloatProperty floatProperty(String name, float defaultValue, float min, float max) {
+		return new FloatProperty(this, name, defaultValue, min, max);
+	}
+
+
+	/** Create a handle which caches {@link #accessColor(String, Color)}
+	 */
+	public Property<Color> colorProperty(String name, Color defaultValue) {
+		return new Property<>(this, name, (map) -> map.accessColor(name, defaultValue));
+	}
+
+
+	/** Create a handle which caches {@link #accessFile(String, File)}
+	 */
+	public Property<File> fileProperty(String name, File defaultValue) {
+		return new Property<>(this, name, (map) -> map.accessFile(name, defaultValue));
+	}
+
+
+	/** Create a handle which caches {@link #accessPath(String, Path)}
+	 */
+	public Property<Path> pathProperty(String name, Path defaultValue) {
+		return new Property<>(this, name, (map) -> map.accessPath(name, defaultValue));
+	}
+
+
+	/** Create a handle which caches {@link #accessUrl(String, URL)}
+	 */
+	public Property<URL> urlProperty(String name, URL defaultValue) {
+		return new Property<>(this, name, (map) -> map.accessUrl(name, defaultValue));
+	}
+
+
 	public static final PropertyMap loadFromFile(File file) {
+		try(InputStream is = new FileInputStream(file)) {
+			return loadFromStream(is);
+		} catch (FileNotFoundException e) {
+			System.err.println("properties file '" + file + "' not found");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new PropertyMap();
+	}
+
+
+	/** Load an ISO 8859-1 encoded properties file (the encoding of {@link Properties#load(InputStream)}) by reading the whole
+	 * file into one buffer and parsing the bytes directly, without a stream or reader.
+	 * Like {@link #loadFromFile(File)}, a missing file prints a message and returns an empty property map
+	 * @param file the properties file
+	 * @return a property map containing the file's properties
+	 */
+	public static final PropertyMap loadFromFile(Path file) {
 		try {
-			return loadFromStream(new FileInputStream(file));
-		}  catch (FileNotFoundException e) {
+			Map<String, String> props = new HashMap<>();
+			PropertiesParser.parseLatin1(ByteBuffer.wrap(Files.readAllBytes(file)), props);
+			return new PropertyMap(props);
+		} catch (NoSuchFileException e) {
 			System.err.println("properties file '" + file + "' not found");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
 		return new PropertyMap();
 	}
 
 
+	/** Load a properties file and watch it for changes, see {@link PropertyMapWatcher}
+	 * @param file the properties file
+	 * @return a watcher whose {@link PropertyMapWatcher#get()} returns the file's current properties
+	 */
+	public static final PropertyMapWatcher watchFile(Path file) {
+		return PropertyMapWatcher.watch(file);
+	}
+
+
+	/** Load properties from a reader, using the same syntax as {@link Properties#load(Reader)} but parsing
+	 * directly into this property map's {@link HashMap} in a single pass
+	 */
 	public static final PropertyMap loadFromReader(Reader reader) {
 		return _loadFromNamedReader(reader, null);
 	}
 
 
+	/** Load properties from an ISO 8859-1 encoded stream, using the same syntax as {@link Properties#load(InputStream)} but parsing
+	 * directly into this property map's {@link HashMap} in a single pass
+	 */
 	public static final PropertyMap loadFromStream(InputStream is) {
-		Properties settingsProps = new Properties();
+		Map<String, String> props = new HashMap<>();
 		try {
-			settingsProps.load(is);
+			PropertiesParser.parseLatin1(ByteBuffer.wrap(is.readAllBytes()), props);
 		} catch (IOException e) {
 			throw new UncheckedIOException(e);
 		}
-		return _propertiesToPropertyMap(settingsProps);
+		return new PropertyMap(props);
 	}
 
 
 	private static final PropertyMap _loadFromNamedReader(Reader reader, Object srcName) {
-		Properties settingsProps = new Properties();
+		Map<String, String> props = new HashMap<>();
 		try {
-			settingsProps.load(reader);
+			char[] buf = new char[8192];
+			int len = 0;
+			int read;
+			while((read = reader.read(buf, len, buf.length - len)) >= 0) {
+				len += read;
+				if(len == buf.length) {
+					buf = Arrays.copyOf(buf, buf.length * 2);
+				}
+			}
+			PropertiesParser.parse(CharBuffer.wrap(buf, 0, len), props);
 		} catch (IOException e) {
 			throw new UncheckedIOException(e);
 		}
-		return _propertiesToPropertyMap(settingsProps);
-	}
-
-
-	private static final PropertyMap _propertiesToPropertyMap(Properties props) {
-		Map<String, String> tmpMap = new HashMap<>();
-		for(Map.Entry<Object, Object> setting : props.entrySet()) {
-			tmpMap.put((String)setting.getKey(), (String)setting.getValue());
-		}
-
-		PropertyMap propMap = new PropertyMap(tmpMap);
-		return propMap;
+		return new PropertyMap(props);
 	}
 
 
@@ -423,4 +579,235 @@ public class PropertyMap {
 		return props;
 	}
 
+
+
+
+	/** A cached, typed view of one property in a {@link PropertyMap}.<br/>
+	 * The first read calls the property map's matching {@code access*()} method (so the property is marked as used and
+	 * the default value is stored if the property is missing) and caches the parsed value. Later reads only compare the
+	 * property map's version with the cached version, the property is re-read after any {@link PropertyMap#setString(String, String)}
+	 * call (or any of the {@code set*()} methods which call it). Changes made directly to the {@link PropertyMap#getProperties()}
+	 * map are not seen until the next {@code set*()} call.<br/>
+	 * A handle is as thread-safe as its property map. The cached value and the map version it was read at are stored together
+	 * in one immutable object published through a single volatile field, so a thread always sees a matching
+	 * value and version. The map's version is read before the property, so a concurrent {@code set*()} or a racing refresh
+	 * which stores an older value causes another re-read rather than caching an old value as current.
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static abstract class Handle {
+		protected final PropertyMap map;
+		protected final String name;
+		/** The cached value, null until the property is first read or after {@link #invalidate()} */
+		volatile Cached cached;
+
+
+		protected Handle(PropertyMap map, String name) {
+			this.map = map;
+			this.name = name;
+		}
+
+
+		public String getName() {
+			return name;
+		}
+
+
+		/** Re-read the property on the next access
+		 */
+		public void invalidate() {
+			this.cached = null;
+		}
+
+
+		/** Get the cached value if it was read at {@code mapVersion}, else null */
+		final Cached current(int mapVersion) {
+			Cached c = this.cached;
+			return (c != null && c.version == mapVersion ? c : null);
+		}
+
+	}
+
+
+
+
+	/** An immutable cached property value and the {@link PropertyMap#version} it was read at
+	 */
+	static class Cached {
+		final int version;
+
+		Cached(int version) {
+			this.version = version;
+		}
+	}
+
+
+
+
+	/** A cached {@code boolean} property, see {@link PropertyMap#booleanProperty(String, boolean)}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static final class BooleanProperty extends Handle {
+		private final boolean defaultValue;
+
+
+		BooleanProperty(PropertyMap map, String name, boolean defaultValue) {
+			super(map, name);
+			this.defaultValue = defaultValue;
+		}
+
+
+		public boolean get() {
+			int mapVersion = map.version;
+			BooleanValue c = (BooleanValue)current(mapVersion);
+			if(c == null) {
+				c = new BooleanValue(mapVersion, map.accessBoolean(name, defaultValue));
+				cached = c;
+			}
+			return c.value;
+		}
+
+
+		private static final class BooleanValue extends Cached {
+			final boolean value;
+
+			BooleanValue(int version, boolean value) {
+				super(version);
+				this.value = value;
+			}
+		}
+
+	}
+
+
+
+
+	/** A cached {@code int} property, see {@link PropertyMap#intProperty(String, int)} and {@link PropertyMap#hexProperty(String, int)}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static final class IntProperty extends Handle {
+		private final int defaultValue;
+		private final int min;
+		private final int max;
+		private final boolean hex;
+
+
+		IntProperty(PropertyMap map, String name, int defaultValue, int min, int max, boolean hex) {
+			super(map, name);
+			this.defaultValue = defaultValue;
+			this.min = min;
+			this.max = max;
+			this.hex = hex;
+		}
+
+
+		public int get() {
+			int mapVersion = map.version;
+			IntValue c = (IntValue)current(mapVersion);
+			if(c == null) {
+				c = new IntValue(mapVersion, hex ? map.accessHex(name, defaultValue, min, max) : map.accessInt(name, defaultValue, min, max));
+				cached = c;
+			}
+			return c.value;
+		}
+
+
+		private static final class IntValue extends Cached {
+			final int value;
+
+			IntValue(int version, int value) {
+				super(version);
+				this.value = value;
+			}
+		}
+
+	}
+
+
+
+
+	/** A cached {@code float} property, see {@link PropertyMap#floatProperty(String, float)}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static final class FloatProperty extends Handle {
+		private final float defaultValue;
+		private final float min;
+		private final float max;
+
+
+		FloatProperty(PropertyMap map, String name, float defaultValue, float min, float max) {
+			super(map, name);
+			this.defaultValue = defaultValue;
+			this.min = min;
+			this.max = max;
+		}
+
+
+		public float get() {
+			int mapVersion = map.version;
+			FloatValue c = (FloatValue)current(mapVersion);
+			if(c == null) {
+				c = new FloatValue(mapVersion, map.accessFloat(name, defaultValue, min, max));
+				cached = c;
+			}
+			return c.value;
+		}
+
+
+		private static final class FloatValue extends Cached {
+			final float value;
+
+			FloatValue(int version, float value) {
+				super(version);
+				this.value = value;
+			}
+		}
+
+	}
+
+
+
+
+	/** A cached object property, such as a {@link String}, {@link Color}, {@link Path}, or {@link URL},
+	 * see {@link PropertyMap#stringProperty(String, String)}, {@link PropertyMap#pathProperty(String, Path)}, etc.
+	 * @param <T> the type of the property's value
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	public static final class Property<T> extends Handle {
+		private final Function<PropertyMap, T> accessor;
+
+
+		Property(PropertyMap map, String name, Function<PropertyMap, T> accessor) {
+			super(map, name);
+			this.accessor = accessor;
+		}
+
+
+		@SuppressWarnings("unchecked")
+		public T get() {
+			int mapVersion = map.version;
+			ObjectValue<T> c = (ObjectValue<T>)current(mapVersion);
+			if(c == null) {
+				c = new ObjectValue<>(mapVersion, accessor.apply(map));
+				cached = c;
+			}
+			return c.value;
+		}
+
+
+		private static final class ObjectValue<T> extends Cached {
+			final T value;
+
+			ObjectValue(int version, T value) {
+				super(version);
+				this.value = value;
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,266 @@
+package twg2.collections.dataStructures;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Watches a properties file and reloads it when it changes, so long-running programs can pick up configuration changes without restarting.<br>
+ * The file is watched by a background daemon thread using a {@link WatchService} on the file's directory. When the file is
+ * created or modified it is re-parsed (see {@link PropertyMap#loadFromStream(java.io.InputStream)} for the format) into a new
+ * thread-safe {@link PropertyMap} snapshot (see {@link PropertyMap#concurrent(Map)}), which is published with a single atomic reference swap.
+ * Readers call {@link #get()} and never lock.
+ * A snapshot is never reloaded in place, a reader holding a snapshot keeps seeing consistent values.
+ * Values set on a snapshot, such as defaults stored by its {@code access*()} methods, only affect that snapshot,
+ * reloads compare the file against its previous parse, not against the current snapshot.<br>
+ * After a reload which changes at least one property, each {@link Listener} is called on the watcher thread with the set of
+ * added, removed, and modified keys. If the file cannot be read or parsed, the current snapshot is kept and listeners are notified through
+ * {@link Listener#reloadFailed(Path, Exception)}. An exception thrown by a listener is passed to the calling thread's
+ * {@link Thread.UncaughtExceptionHandler} and does not stop the other listeners or the watcher thread. Change events are coalesced until the file has been quiet for a short time,
+ * so a save which truncates and then rewrites the file usually causes one reload.<br>
+ * Call {@link #close()} to stop watching.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public final class PropertyMapWatcher implements Closeable {
+	/** How long to wait for more change events after a change before reloading, so the several events from one save cause one reload */
+	private static final long SETTLE_MILLIS = 100;
+
+	/** Notified when a watched properties file is reloaded
+	 * @author TeamworkGuy2
+	 * @since 2026-10-19
+	 */
+	@FunctionalInterface
+	public static interface Listener {
+
+		/** Called after a new snapshot has been published
+		 * @param changedKeys the keys which were added, removed, or whose values changed
+		 * @param oldSnapshot the previous snapshot
+		 * @param newSnapshot the new snapshot, which {@link PropertyMapWatcher#get()} now returns
+		 */
+		public void propertiesChanged(Set<String> changedKeys, PropertyMap oldSnapshot, PropertyMap newSnapshot);
+
+
+		/** Called when the file could not be reloaded, the previous snapshot remains current
+		 */
+		public default void reloadFailed(Path file, Exception error) {
+		}
+
+	}
+
+
+	private final Path file;
+	/** The properties from the last successful parse of the file, guarded by {@code this} */
+	private Map<String, String> lastParsed;
+	private final AtomicReference<PropertyMap> current;
+	private final CopyOnWriteArrayList<Listener> listeners;
+	private final WatchService watchService;
+	private final Thread watchThread;
+
+
+	private PropertyMapWatcher(Path file) throws IOException {
+		this.file = file.toAbsolutePath();
+		this.lastParsed = parse(this.file);
+		this.current = new AtomicReference<>(snapshot(this.lastParsed));
+		this.listeners = new CopyOnWriteArrayList<>();
+		Path dir = this.file.getParent();
+		this.watchService = dir.getFileSystem().newWatchService();
+		try {
+			dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException e) {
+			watchService.close();
+			throw e;
+		}
+		this.watchThread = new Thread(this::watchLoop, "PropertyMapWatcher-" + this.file.getFileName());
+		this.watchThread.setDaemon(true);
+	}
+
+
+	/** Load a properties file and start watching it for changes
+	 * @param file the properties file, must exist
+	 * @return a watcher whose {@link #get()} returns the file's current properties
+	 * @throws UncheckedIOException if the file cannot be read or watched
+	 */
+	public static PropertyMapWatcher watch(Path file) {
+		try {
+			PropertyMapWatcher watcher = new PropertyMapWatcher(file);
+			watcher.watchThread.start();
+			return watcher;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * @return the current snapshot of the file's properties
+	 */
+	public PropertyMap get() {
+		return current.get();
+	}
+
+
+	/** Read a property from the current snapshot without marking it as used
+	 * @return the property's value or null if the current snapshot does not contain the property
+	 */
+	public String getString(String name) {
+		return current.get().getProperties().get(name);
+	}
+
+
+	public Path getFile() {
+		return file;
+	}
+
+
+	public void addListener(Listener listener) {
+		listeners.add(Objects.requireNonNull(listener));
+	}
+
+
+	public boolean removeListener(Listener listener) {
+		return listeners.remove(listener);
+	}
+
+
+	/** Re-read the file now rather than waiting for a change notification, listeners are called on this thread if the properties changed
+	 * @return true if the properties changed and a new snapshot was published
+	 */
+	public synchronized boolean reload() {
+		Map<String, String> props;
+		try {
+			props = parse(file);
+		} catch (IOException | RuntimeException e) {
+			for(Listener listener : listeners) {
+				try {
+					listener.reloadFailed(file, e);
+				} catch (RuntimeException listenerError) {
+					reportListenerError(listenerError);
+				}
+			}
+			return false;
+		}
+
+		Set<String> changedKeys = changedKeys(lastParsed, props);
+		if(changedKeys.isEmpty()) {
+			return false;
+		}
+		lastParsed = props;
+		PropertyMap newSnapshot = snapshot(props);
+		PropertyMap oldSnapshot = current.getAndSet(newSnapshot);
+		for(Listener listener : listeners) {
+			try {
+				listener.propertiesChanged(changedKeys, oldSnapshot, newSnapshot);
+			} catch (RuntimeException listenerError) {
+				reportListenerError(listenerError);
+			}
+		}
+		return true;
+	}
+
+
+	/** Stop watching the file, {@link #get()} continues to return the last snapshot
+	 */
+	@Override
+	public void close() {
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	private void watchLoop() {
+		try {
+			while(true) {
+				WatchKey key = watchService.take();
+				boolean changed = false;
+				boolean valid = true;
+				// wait for the burst of events from one save to end
+				do {
+					changed |= isFileChanged(key);
+					valid &= key.reset();
+				} while((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null);
+
+				if(changed && Files.exists(file)) {
+					reload();
+				}
+				if(!valid) {
+					// the directory is no longer accessible
+					return;
+				}
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// closed, stop watching
+		}
+	}
+
+
+	private boolean isFileChanged(WatchKey key) {
+		Path fileName = file.getFileName();
+		boolean changed = false;
+		for(WatchEvent<?> event : key.pollEvents()) {
+			if(event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+
+	/** Read the whole file before parsing it, since the file may be truncated by a writer while it is being read
+	 */
+	private static Map<String, String> parse(Path file) throws IOException {
+		Map<String, String> props = new HashMap<>();
+		PropertiesParser.parseLatin1(ByteBuffer.wrap(Files.readAllBytes(file)), props);
+		return props;
+	}
+
+
+	/** Create a thread-safe snapshot from a copy of the parsed properties, see {@link PropertyMap#concurrent(Map)}
+	 */
+	private static PropertyMap snapshot(Map<String, String> props) {
+		return new PropertyMap(new ConcurrentHashMap<>(props), new ConcurrentHashMap<>());
+	}
+
+
+	private static void reportListenerError(RuntimeException error) {
+		Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+	}
+
+
+	private static Set<String> changedKeys(Map<String, String> oldProps, Map<String, String> newProps) {
+		Set<String> changed = new HashSet<>();
+		for(Map.Entry<String, String> entry : newProps.entrySet()) {
+			if(!Objects.equals(entry.getValue(), oldProps.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		for(String key : oldProps.keySet()) {
+			if(!newProps.containsKey(key)) {
+				changed.add(key);
+			}
+		}
+		return Collections.unmodifiableSet(changed);
+	}
+
+}
@@ -0,0 +1,218 @@
+package twg2.collections.dataStructures;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+
+import twg2.simpleTypes.ioPrimitives.JNumericType;
+
+/** A frequency map which only counts recent updates, for "hits in the last N minutes" style counts.<br>
+ * The window is divided into a ring of {@code bucketCount} buckets, each an {@link ObjLongFrequencyMap} covering
+ * {@code window / bucketCount} of time. Updates only touch the current bucket. Reads sum a key's count across the buckets.
+ * Like {@link CircularArray}, the ring rotates instead of shifting: when time moves into a new bucket the oldest bucket is cleared and reused,
+ * so keys which have not been updated within the window drop out and memory does not grow over time.<br>
+ * The window includes the current, partially elapsed, bucket, so a count covers between {@code window - window / bucketCount} and
+ * {@code window} of time. More buckets give a more precise window at the cost of slower reads.<br>
+ * Null keys are permitted. This class is not thread-safe.
+ * @param <K> the type of keys in this map
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class WindowedFrequencyMap<K> {
+	private final ObjLongFrequencyMap<K>[] buckets;
+	private final long bucketNanos;
+	private final LongSupplier clock;
+	private final long startNanos;
+	/** The bucket number (time since {@link #startNanos} divided by {@link #bucketNanos}) of the current bucket */
+	private long currentBucket;
+
+
+	/** Create a windowed frequency map using {@link System#nanoTime()} as its clock
+	 * @param window the duration of the window
+	 * @param unit the unit of {@code window}
+	 * @param bucketCount the number of buckets the window is divided into
+	 */
+	public WindowedFrequencyMap(long window, TimeUnit unit, int bucketCount) {
+		this(window, unit, bucketCount, System::nanoTime);
+	}
+
+
+	/**
+	 * @param window the duration of the window
+	 * @param unit the unit of {@code window}
+	 * @param bucketCount the number of buckets the window is divided into
+	 * @param clockNanos the current time in nanoseconds, must not decrease, updates made while the clock goes backward are counted in the current bucket
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public WindowedFrequencyMap(long window, TimeUnit unit, int bucketCount, LongSupplier clockNanos) {
+		long windowNanos = unit.toNanos(window);
+		if(bucketCount < 1 || windowNanos < bucketCount) {
+			throw new IllegalArgumentException("window (" + windowNanos + "ns) must be positive and at least 1ns per bucket (" + bucketCount + ")");
+		}
+		this.buckets = new ObjLongFrequencyMap[bucketCount];
+		for(int i = 0; i < bucketCount; i++) {
+			this.buckets[i] = new ObjLongFrequencyMap<>();
+		}
+		this.bucketNanos = windowNanos / bucketCount;
+		this.clock = Objects.requireNonNull(clockNanos);
+		this.startNanos = clockNanos.getAsLong();
+		this.currentBucket = 0;
+	}
+
+
+	public boolean contains(K key) {
+		rotate();
+		for(ObjLongFrequencyMap<K> bucket : buckets) {
+			if(bucket.contains(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * @return the key's count within the window, 0 if the key has not been updated within the window
+	 */
+	public long get(K key) {
+		rotate();
+		long sum = 0;
+		for(ObjLongFrequencyMap<K> bucket : buckets) {
+			sum += bucket.get(key);
+		}
+		return sum;
+	}
+
+
+	public void increment(K key) {
+		add(key, 1);
+	}
+
+
+	public void decrement(K key) {
+		add(key, -1);
+	}
+
+
+	public void add(K key, long value) {
+		currentBucket().add(key, value);
+	}
+
+
+	public void subtract(K key, long value) {
+		currentBucket().add(key, -value);
+	}
+
+
+	public long getAndIncrement(K key) {
+		return getAndAdd(key, 1);
+	}
+
+
+	public long getAndDecrement(K key) {
+		return getAndAdd(key, -1);
+	}
+
+
+	/** Add a value to a key's count in the current bucket
+	 * @return the key's count within the window before the add
+	 */
+	public long getAndAdd(K key, long add) {
+		long count = get(key);
+		buckets[bucketIndex(currentBucket)].add(key, add);
+		return count;
+	}
+
+
+	/**
+	 * @return the sum of all counts within the window
+	 */
+	public long total() {
+		rotate();
+		long[] sum = { 0 };
+		for(ObjLongFrequencyMap<K> bucket : buckets) {
+			bucket.forEach((k, c) -> sum[0] += c);
+		}
+		return sum[0];
+	}
+
+
+	/** Call an action for each key updated within the window and its count within the window
+	 */
+	public void forEach(ObjLongConsumer<? super K> action) {
+		Objects.requireNonNull(action);
+		merge().forEach(action);
+	}
+
+
+	/** Copy the counts within the window into a new {@link FrequencyMap} with {@code long} frequencies
+	 */
+	public FrequencyMap<K, Long> snapshot() {
+		FrequencyMap<K, Long> snapshot = new FrequencyMap<>(JNumericType.LONG);
+		Map<K, Long> dst = snapshot.getRawFrequencyMap();
+		merge().forEach((k, c) -> dst.put(k, c));
+		return snapshot;
+	}
+
+
+	/** Remove all counts
+	 */
+	public void clear() {
+		for(ObjLongFrequencyMap<K> bucket : buckets) {
+			bucket.clear();
+		}
+	}
+
+
+	/**
+	 * @return the duration of each bucket in nanoseconds
+	 */
+	public long getBucketNanos() {
+		return bucketNanos;
+	}
+
+
+	public int getBucketCount() {
+		return buckets.length;
+	}
+
+
+	private ObjLongFrequencyMap<K> merge() {
+		rotate();
+		ObjLongFrequencyMap<K> merged = new ObjLongFrequencyMap<>();
+		for(ObjLongFrequencyMap<K> bucket : buckets) {
+			bucket.forEach(merged::add);
+		}
+		return merged;
+	}
+
+
+	private ObjLongFrequencyMap<K> currentBucket() {
+		rotate();
+		return buckets[bucketIndex(currentBucket)];
+	}
+
+
+	/** Advance to the bucket containing the current time, clearing the buckets which fell out of the window
+	 */
+	private void rotate() {
+		long now = (clock.getAsLong() - startNanos) / bucketNanos;
+		long cur = currentBucket;
+		if(now > cur) {
+			// clear at most one full ring, older buckets were already cleared by an earlier step
+			long steps = Math.min(now - cur, buckets.length);
+			for(long b = now - steps + 1; b <= now; b++) {
+				buckets[bucketIndex(b)].clear();
+			}
+			currentBucket = now;
+		}
+	}
+
+
+	private int bucketIndex(long bucket) {
+		return (int)(bucket % buckets.length);
+	}
+
+}
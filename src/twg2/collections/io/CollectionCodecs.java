@@ -0,0 +1,265 @@
+package twg2.collections.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import twg2.collections.dataStructures.Bag;
+import twg2.collections.dataStructures.BaseList;
+import twg2.collections.dataStructures.PairBag;
+
+/** Compact binary serialization for {@link Bag}, {@link PairBag}, and {@link BaseList}.
+ * Collections are written as a 4 byte size followed by each element written by an {@link ElementCodec}.
+ * Primitive arrays are written as a 4 byte length followed by the array contents, converted to bytes in bulk
+ * through a {@link ByteBuffer} view rather than one {@code DataOutput.writeX()} call per element.<br>
+ * Note: {@link java.io.DataOutputStream} and {@link java.io.DataInputStream} should wrap a
+ * {@link java.io.BufferedOutputStream} or {@link java.io.BufferedInputStream} when writing large collections element by element.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public final class CollectionCodecs {
+	/** The number of bytes converted per bulk primitive array write/read to/from a {@link DataOutput}/{@link DataInput} */
+	private static final int BULK_CHUNK_BYTES = 8192;
+	/** The largest initial capacity allocated for a collection or array based on the size read from an input, larger ones grow as
+	 * their elements are read, so a corrupt size cannot allocate a huge array before any elements are read */
+	private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+	private CollectionCodecs() { throw new AssertionError("cannot instantiate static class CollectionCodecs"); }
+
+
+	public static <T> void writeBag(DataOutput out, Bag<? extends T> bag, ElementCodec<T> codec) throws IOException {
+		Object[] data = bag.getRawArray();
+		int size = bag.size();
+		out.writeInt(size);
+		for(int i = 0; i < size; i++) {
+			@SuppressWarnings("unchecked")
+			T elem = (T)data[i];
+			codec.write(out, elem);
+		}
+	}
+
+
+	public static <T> Bag<T> readBag(DataInput in, ElementCodec<T> codec) throws IOException {
+		int size = readSize(in);
+		Bag<T> bag = new Bag<>(Math.min(size, MAX_INITIAL_CAPACITY));
+		for(int i = 0; i < size; i++) {
+			bag.add(codec.read(in));
+		}
+		return bag;
+	}
+
+
+	public static <K, V> void writePairBag(DataOutput out, PairBag<? extends K, ? extends V> bag, ElementCodec<K> keyCodec, ElementCodec<V> valueCodec) throws IOException {
+		int size = bag.size();
+		out.writeInt(size);
+		for(int i = 0; i < size; i++) {
+			keyCodec.write(out, bag.getKey(i));
+			valueCodec.write(out, bag.getValue(i));
+		}
+	}
+
+
+	public static <K, V> PairBag<K, V> readPairBag(DataInput in, ElementCodec<K> keyCodec, ElementCodec<V> valueCodec) throws IOException {
+		int size = readSize(in);
+		PairBag<K, V> bag = new PairBag<>(Math.min(size, MAX_INITIAL_CAPACITY));
+		for(int i = 0; i < size; i++) {
+			K key = keyCodec.read(in);
+			V value = valueCodec.read(in);
+			bag.add(key, value);
+		}
+		return bag;
+	}
+
+
+	public static <T> void writeList(DataOutput out, BaseList<? extends T> list, ElementCodec<T> codec) throws IOException {
+		int size = list.size();
+		out.writeInt(size);
+		for(int i = 0; i < size; i++) {
+			codec.write(out, list.get(i));
+		}
+	}
+
+
+	public static <T> BaseList<T> readList(DataInput in, ElementCodec<T> codec) throws IOException {
+		int size = readSize(in);
+		BaseList<T> list = new BaseList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+		for(int i = 0; i < size; i++) {
+			list.add(codec.read(in));
+		}
+		return list;
+	}
+
+
+	public static void writeInts(DataOutput out, int[] src, int off, int len) throws IOException {
+		out.writeInt(len);
+		ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_BYTES / 4) * 4);
+		for(int i = 0; i < len; ) {
+			int count = Math.min(len - i, buf.capacity() / 4);
+			buf.asIntBuffer().put(src, off + i, count);
+			out.write(buf.array(), 0, count * 4);
+			i += count;
+		}
+	}
+
+
+	public static int[] readInts(DataInput in) throws IOException {
+		int len = readSize(in);
+		int[] dst = new int[Math.min(len, MAX_INITIAL_CAPACITY)];
+		ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_BYTES / 4) * 4);
+		for(int i = 0; i < len; ) {
+			int count = Math.min(len - i, buf.capacity() / 4);
+			in.readFully(buf.array(), 0, count * 4);
+			if(i + count > dst.length) {
+				dst = Arrays.copyOf(dst, grownLength(dst.length, i + count, len));
+			}
+			buf.asIntBuffer().get(dst, i, count);
+			i += count;
+		}
+		return dst;
+	}
+
+
+	public static void writeInts(ByteBuffer dst, int[] src, int off, int len) {
+		dst.putInt(len);
+		dst.asIntBuffer().put(src, off, len);
+		dst.position(dst.position() + len * 4);
+	}
+
+
+	public static int[] readInts(ByteBuffer src) throws IOException {
+		int len = readSize(src, 4);
+		int[] dst = new int[len];
+		src.asIntBuffer().get(dst, 0, len);
+		src.position(src.position() + len * 4);
+		return dst;
+	}
+
+
+	public static void writeLongs(DataOutput out, long[] src, int off, int len) throws IOException {
+		out.writeInt(len);
+		ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_BYTES / 8) * 8);
+		for(int i = 0; i < len; ) {
+			int count = Math.min(len - i, buf.capacity() / 8);
+			buf.asLongBuffer().put(src, off + i, count);
+			out.write(buf.array(), 0, count * 8);
+			i += count;
+		}
+	}
+
+
+	public static long[] readLongs(DataInput in) throws IOException {
+		int len = readSize(in);
+		long[] dst = new long[Math.min(len, MAX_INITIAL_CAPACITY)];
+		ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_BYTES / 8) * 8);
+		for(int i = 0; i < len; ) {
+			int count = Math.min(len - i, buf.capacity() / 8);
+			in.readFully(buf.array(), 0, count * 8);
+			if(i + count > dst.length) {
+				dst = Arrays.copyOf(dst, grownLength(dst.length, i + count, len));
+			}
+			buf.asLongBuffer().get(dst, i, count);
+			i += count;
+		}
+		return dst;
+	}
+
+
+	public static void writeLongs(ByteBuffer dst, long[] src, int off, int len) {
+		dst.putInt(len);
+		dst.asLongBuffer().put(src, off, len);
+		dst.position(dst.position() + len * 8);
+	}
+
+
+	public static long[] readLongs(ByteBuffer src) throws IOException {
+		int len = readSize(src, 8);
+		long[] dst = new long[len];
+		src.asLongBuffer().get(dst, 0, len);
+		src.position(src.position() + len * 8);
+		return dst;
+	}
+
+
+	public static void writeDoubles(DataOutput out, double[] src, int off, int len) throws IOException {
+		out.writeInt(len);
+		ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_BYTES / 8) * 8);
+		for(int i = 0; i < len; ) {
+			int count = Math.min(len - i, buf.capacity() / 8);
+			buf.asDoubleBuffer().put(src, off + i, count);
+			out.write(buf.array(), 0, count * 8);
+			i += count;
+		}
+	}
+
+
+	public static double[] readDoubles(DataInput in) throws IOException {
+		int len = readSize(in);
+		double[] dst = new double[Math.min(len, MAX_INITIAL_CAPACITY)];
+		ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_BYTES / 8) * 8);
+		for(int i = 0; i < len; ) {
+			int count = Math.min(len - i, buf.capacity() / 8);
+			in.readFully(buf.array(), 0, count * 8);
+			if(i + count > dst.length) {
+				dst = Arrays.copyOf(dst, grownLength(dst.length, i + count, len));
+			}
+			buf.asDoubleBuffer().get(dst, i, count);
+			i += count;
+		}
+		return dst;
+	}
+
+
+	public static void writeDoubles(ByteBuffer dst, double[] src, int off, int len) {
+		dst.putInt(len);
+		dst.asDoubleBuffer().put(src, off, len);
+		dst.position(dst.position() + len * 8);
+	}
+
+
+	public static double[] readDoubles(ByteBuffer src) throws IOException {
+		int len = readSize(src, 8);
+		double[] dst = new double[len];
+		src.asDoubleBuffer().get(dst, 0, len);
+		src.position(src.position() + len * 8);
+		return dst;
+	}
+
+
+	private static int readSize(DataInput in) throws IOException {
+		int size = in.readInt();
+		if(size < 0) {
+			throw new IOException("invalid collection size " + size);
+		}
+		return size;
+	}
+
+
+	private static int readSize(ByteBuffer src) throws IOException {
+		int size = src.getInt();
+		if(size < 0) {
+			throw new IOException("invalid collection size " + size);
+		}
+		return size;
+	}
+
+
+	/** Read an array length and check that the buffer contains that many elements before the array is allocated
+	 */
+	private static int readSize(ByteBuffer src, int elemBytes) throws IOException {
+		int size = readSize(src);
+		if(size > src.remaining() / elemBytes) {
+			throw new IOException("invalid array length " + size + ", only " + src.remaining() + " bytes remaining");
+		}
+		return size;
+	}
+
+
+	/** Double an array's length, at least to {@code minLength} and at most to the expected {@code maxLength}
+	 */
+	private static int grownLength(int length, int minLength, int maxLength) {
+		return (int)Math.min(maxLength, Math.max(minLength, length * 2L));
+	}
+
+}
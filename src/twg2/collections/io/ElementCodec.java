@@ -0,0 +1,86 @@
+package twg2.collections.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/** Writes and reads individual collection elements to and from a binary stream.
+ * Used by {@link CollectionCodecs} to serialize collections as a size followed by a packed stream of elements.<br>
+ * The built-in codecs do not accept null elements, use {@link #nullable(ElementCodec)} to wrap a codec for collections which contain nulls.
+ * @param <T> the type of elements this codec reads and writes
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public interface ElementCodec<T> {
+
+	/** Write an element to a stream
+	 * @param out the destination stream
+	 * @param elem the element to write
+	 * @throws IOException if there is an error writing to the stream
+	 */
+	public void write(DataOutput out, T elem) throws IOException;
+
+
+	/** Read an element, which was written by {@link #write(DataOutput, Object)}, from a stream
+	 * @param in the source stream
+	 * @return the element read from the stream
+	 * @throws IOException if there is an error reading from the stream
+	 */
+	public T read(DataInput in) throws IOException;
+
+
+
+
+	public static final ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+		@Override public void write(DataOutput out, Integer elem) throws IOException { out.writeInt(elem); }
+		@Override public Integer read(DataInput in) throws IOException { return in.readInt(); }
+	};
+
+
+	public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+		@Override public void write(DataOutput out, Long elem) throws IOException { out.writeLong(elem); }
+		@Override public Long read(DataInput in) throws IOException { return in.readLong(); }
+	};
+
+
+	public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+		@Override public void write(DataOutput out, Double elem) throws IOException { out.writeDouble(elem); }
+		@Override public Double read(DataInput in) throws IOException { return in.readDouble(); }
+	};
+
+
+	/** Writes strings as a 4 byte length followed by UTF-8 bytes (unlike {@link DataOutput#writeUTF(String)} which is limited to 65535 bytes) */
+	public static final ElementCodec<String> STRING = new ElementCodec<String>() {
+		@Override public void write(DataOutput out, String elem) throws IOException {
+			byte[] bytes = elem.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+		@Override public String read(DataInput in) throws IOException {
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+
+	/** Wrap a codec so that each element is prefixed by a 1 byte null flag
+	 * @param codec the codec to use for non-null elements
+	 * @return a codec which supports null elements
+	 */
+	public static <T> ElementCodec<T> nullable(ElementCodec<T> codec) {
+		return new ElementCodec<T>() {
+			@Override public void write(DataOutput out, T elem) throws IOException {
+				out.writeBoolean(elem != null);
+				if(elem != null) {
+					codec.write(out, elem);
+				}
+			}
+			@Override public T read(DataInput in) throws IOException {
+				return in.readBoolean() ? codec.read(in) : null;
+			}
+		};
+	}
+
+}
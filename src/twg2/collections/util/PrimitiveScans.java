@@ -0,0 +1,455 @@
+package twg2.collections.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/** Scan operations ({@code indexOf}, {@code count}, {@code min}, {@code max}, {@code sum}, and {@code indicesInRange}) over ranges of
+ * {@code int}, {@code long}, and {@code double} arrays, used by {@link twg2.collections.dataStructures.IntList},
+ * {@link twg2.collections.dataStructures.LongList}, and {@link twg2.collections.dataStructures.DoubleList}.<br>
+ * The loops are unrolled by four with independent accumulators so each iteration has no dependency on the previous one,
+ * which lets the JIT compiler keep several values in flight and auto-vectorize the simple reductions ({@code count}, {@code sum}),
+ * and the searches test four values per branch.
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public final class PrimitiveScans {
+
+	private PrimitiveScans() { throw new AssertionError("cannot instantiate static class PrimitiveScans"); }
+
+
+	/** Find the first index of a value in the range {@code [fromIndex, toIndex)} of an array
+	 * @return the index of the first occurrence of the value, or -1 if the range does not contain the value
+	 */
+	public static int indexOf(int[] a, int fromIndex, int toIndex, int value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			// test a block of values with one branch in the common (not found) case
+			if((a[i] == value) | (a[i + 1] == value) | (a[i + 2] == value) | (a[i + 3] == value)) {
+				break;
+			}
+		}
+		for(; i < toIndex; i++) {
+			if((a[i] == value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the last index of a value in the range {@code [fromIndex, toIndex)} of an array
+	 * @return the index of the last occurrence of the value, or -1 if the range does not contain the value
+	 */
+	public static int lastIndexOf(int[] a, int fromIndex, int toIndex, int value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int i = toIndex - 1;
+		for(int start4 = fromIndex + 3; i >= start4; i -= 4) {
+			if((a[i] == value) | (a[i - 1] == value) | (a[i - 2] == value) | (a[i - 3] == value)) {
+				break;
+			}
+		}
+		for(; i >= fromIndex; i--) {
+			if((a[i] == value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Count the occurrences of a value in the range {@code [fromIndex, toIndex)} of an array
+	 */
+	public static int count(int[] a, int fromIndex, int toIndex, int value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			c0 += (a[i] == value) ? 1 : 0;
+			c1 += (a[i + 1] == value) ? 1 : 0;
+			c2 += (a[i + 2] == value) ? 1 : 0;
+			c3 += (a[i + 3] == value) ? 1 : 0;
+		}
+		for(; i < toIndex; i++) {
+			c0 += (a[i] == value) ? 1 : 0;
+		}
+		return c0 + c1 + c2 + c3;
+	}
+
+
+	/**
+	 * @return the minimum value in the range {@code [fromIndex, toIndex)} of an array
+	 * @throws NoSuchElementException if the range is empty
+	 */
+	public static int min(int[] a, int fromIndex, int toIndex) {
+		checkNonEmpty(fromIndex, toIndex, a.length);
+		int m0 = a[fromIndex], m1 = m0, m2 = m0, m3 = m0;
+		int i = fromIndex + 1;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for(; i < toIndex; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+
+	/**
+	 * @return the maximum value in the range {@code [fromIndex, toIndex)} of an array
+	 * @throws NoSuchElementException if the range is empty
+	 */
+	public static int max(int[] a, int fromIndex, int toIndex) {
+		checkNonEmpty(fromIndex, toIndex, a.length);
+		int m0 = a[fromIndex], m1 = m0, m2 = m0, m3 = m0;
+		int i = fromIndex + 1;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for(; i < toIndex; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+
+	/**
+	 * @return the sum of the values in the range {@code [fromIndex, toIndex)} of an array as a {@code long}, so the sum cannot overflow
+	 */
+	public static long sum(int[] a, int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for(; i < toIndex; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+
+	/** Find the indices of the values in the range {@code [fromIndex, toIndex)} of an array which are between {@code min} and {@code max} inclusive
+	 * @return the matching array indices in ascending order
+	 */
+	public static int[] indicesInRange(int[] a, int fromIndex, int toIndex, int min, int max) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int[] res = new int[toIndex - fromIndex];
+		int n = 0;
+		for(int i = fromIndex; i < toIndex; i++) {
+			int v = a[i];
+			// always store the index and only advance the output position on a match, avoids an unpredictable branch
+			res[n] = i;
+			n += (v >= min & v <= max) ? 1 : 0;
+		}
+		return n == res.length ? res : Arrays.copyOf(res, n);
+	}
+
+
+
+	/** Find the first index of a value in the range {@code [fromIndex, toIndex)} of an array
+	 * @return the index of the first occurrence of the value, or -1 if the range does not contain the value
+	 */
+	public static int indexOf(long[] a, int fromIndex, int toIndex, long value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			// test a block of values with one branch in the common (not found) case
+			if((a[i] == value) | (a[i + 1] == value) | (a[i + 2] == value) | (a[i + 3] == value)) {
+				break;
+			}
+		}
+		for(; i < toIndex; i++) {
+			if((a[i] == value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the last index of a value in the range {@code [fromIndex, toIndex)} of an array
+	 * @return the index of the last occurrence of the value, or -1 if the range does not contain the value
+	 */
+	public static int lastIndexOf(long[] a, int fromIndex, int toIndex, long value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int i = toIndex - 1;
+		for(int start4 = fromIndex + 3; i >= start4; i -= 4) {
+			if((a[i] == value) | (a[i - 1] == value) | (a[i - 2] == value) | (a[i - 3] == value)) {
+				break;
+			}
+		}
+		for(; i >= fromIndex; i--) {
+			if((a[i] == value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Count the occurrences of a value in the range {@code [fromIndex, toIndex)} of an array
+	 */
+	public static int count(long[] a, int fromIndex, int toIndex, long value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			c0 += (a[i] == value) ? 1 : 0;
+			c1 += (a[i + 1] == value) ? 1 : 0;
+			c2 += (a[i + 2] == value) ? 1 : 0;
+			c3 += (a[i + 3] == value) ? 1 : 0;
+		}
+		for(; i < toIndex; i++) {
+			c0 += (a[i] == value) ? 1 : 0;
+		}
+		return c0 + c1 + c2 + c3;
+	}
+
+
+	/**
+	 * @return the minimum value in the range {@code [fromIndex, toIndex)} of an array
+	 * @throws NoSuchElementException if the range is empty
+	 */
+	public static long min(long[] a, int fromIndex, int toIndex) {
+		checkNonEmpty(fromIndex, toIndex, a.length);
+		long m0 = a[fromIndex], m1 = m0, m2 = m0, m3 = m0;
+		int i = fromIndex + 1;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for(; i < toIndex; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+
+	/**
+	 * @return the maximum value in the range {@code [fromIndex, toIndex)} of an array
+	 * @throws NoSuchElementException if the range is empty
+	 */
+	public static long max(long[] a, int fromIndex, int toIndex) {
+		checkNonEmpty(fromIndex, toIndex, a.length);
+		long m0 = a[fromIndex], m1 = m0, m2 = m0, m3 = m0;
+		int i = fromIndex + 1;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for(; i < toIndex; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+
+	/** Sum values, overflow wraps around like {@code long} addition
+	 * @return the sum of the values in the range {@code [fromIndex, toIndex)} of an array
+	 */
+	public static long sum(long[] a, int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for(; i < toIndex; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+
+	/** Find the indices of the values in the range {@code [fromIndex, toIndex)} of an array which are between {@code min} and {@code max} inclusive
+	 * @return the matching array indices in ascending order
+	 */
+	public static int[] indicesInRange(long[] a, int fromIndex, int toIndex, long min, long max) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int[] res = new int[toIndex - fromIndex];
+		int n = 0;
+		for(int i = fromIndex; i < toIndex; i++) {
+			long v = a[i];
+			// always store the index and only advance the output position on a match, avoids an unpredictable branch
+			res[n] = i;
+			n += (v >= min & v <= max) ? 1 : 0;
+		}
+		return n == res.length ? res : Arrays.copyOf(res, n);
+	}
+
+
+
+	/** Find the first index of a value in the range {@code [fromIndex, toIndex)} of an array,
+	 * values are compared by {@link Double#doubleToLongBits(double)} like {@link Double#equals(Object)}, so {@code NaN} matches {@code NaN} and {@code -0.0} does not match {@code 0.0}
+	 * @return the index of the first occurrence of the value, or -1 if the range does not contain the value
+	 */
+	public static int indexOf(double[] a, int fromIndex, int toIndex, double value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		final long bits = Double.doubleToLongBits(value);
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			// test a block of values with one branch in the common (not found) case
+			if((Double.doubleToLongBits(a[i]) == bits) | (Double.doubleToLongBits(a[i + 1]) == bits) | (Double.doubleToLongBits(a[i + 2]) == bits) | (Double.doubleToLongBits(a[i + 3]) == bits)) {
+				break;
+			}
+		}
+		for(; i < toIndex; i++) {
+			if((Double.doubleToLongBits(a[i]) == bits)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the last index of a value in the range {@code [fromIndex, toIndex)} of an array,
+	 * values are compared by {@link Double#doubleToLongBits(double)} like {@link Double#equals(Object)}, so {@code NaN} matches {@code NaN} and {@code -0.0} does not match {@code 0.0}
+	 * @return the index of the last occurrence of the value, or -1 if the range does not contain the value
+	 */
+	public static int lastIndexOf(double[] a, int fromIndex, int toIndex, double value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		final long bits = Double.doubleToLongBits(value);
+		int i = toIndex - 1;
+		for(int start4 = fromIndex + 3; i >= start4; i -= 4) {
+			if((Double.doubleToLongBits(a[i]) == bits) | (Double.doubleToLongBits(a[i - 1]) == bits) | (Double.doubleToLongBits(a[i - 2]) == bits) | (Double.doubleToLongBits(a[i - 3]) == bits)) {
+				break;
+			}
+		}
+		for(; i >= fromIndex; i--) {
+			if((Double.doubleToLongBits(a[i]) == bits)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Count the occurrences of a value in the range {@code [fromIndex, toIndex)} of an array,
+	 * values are compared by {@link Double#doubleToLongBits(double)} like {@link Double#equals(Object)}, so {@code NaN} matches {@code NaN} and {@code -0.0} does not match {@code 0.0}
+	 */
+	public static int count(double[] a, int fromIndex, int toIndex, double value) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		final long bits = Double.doubleToLongBits(value);
+		int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			c0 += (Double.doubleToLongBits(a[i]) == bits) ? 1 : 0;
+			c1 += (Double.doubleToLongBits(a[i + 1]) == bits) ? 1 : 0;
+			c2 += (Double.doubleToLongBits(a[i + 2]) == bits) ? 1 : 0;
+			c3 += (Double.doubleToLongBits(a[i + 3]) == bits) ? 1 : 0;
+		}
+		for(; i < toIndex; i++) {
+			c0 += (Double.doubleToLongBits(a[i]) == bits) ? 1 : 0;
+		}
+		return c0 + c1 + c2 + c3;
+	}
+
+
+	/**
+	 * @return the minimum value in the range {@code [fromIndex, toIndex)} of an array, {@code NaN} if any value is {@code NaN}, see {@link Math#min(double, double)}
+	 * @throws NoSuchElementException if the range is empty
+	 */
+	public static double min(double[] a, int fromIndex, int toIndex) {
+		checkNonEmpty(fromIndex, toIndex, a.length);
+		double m0 = a[fromIndex], m1 = m0, m2 = m0, m3 = m0;
+		int i = fromIndex + 1;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			m0 = Math.min(m0, a[i]);
+			m1 = Math.min(m1, a[i + 1]);
+			m2 = Math.min(m2, a[i + 2]);
+			m3 = Math.min(m3, a[i + 3]);
+		}
+		for(; i < toIndex; i++) {
+			m0 = Math.min(m0, a[i]);
+		}
+		return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+	}
+
+
+	/**
+	 * @return the maximum value in the range {@code [fromIndex, toIndex)} of an array, {@code NaN} if any value is {@code NaN}, see {@link Math#max(double, double)}
+	 * @throws NoSuchElementException if the range is empty
+	 */
+	public static double max(double[] a, int fromIndex, int toIndex) {
+		checkNonEmpty(fromIndex, toIndex, a.length);
+		double m0 = a[fromIndex], m1 = m0, m2 = m0, m3 = m0;
+		int i = fromIndex + 1;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			m0 = Math.max(m0, a[i]);
+			m1 = Math.max(m1, a[i + 1]);
+			m2 = Math.max(m2, a[i + 2]);
+			m3 = Math.max(m3, a[i + 3]);
+		}
+		for(; i < toIndex; i++) {
+			m0 = Math.max(m0, a[i]);
+		}
+		return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+	}
+
+
+	/**
+	 * @return the sum of the values in the range {@code [fromIndex, toIndex)} of an array,
+	 * the values are added in a different order than a sequential loop so the result may differ in the last bits
+	 */
+	public static double sum(double[] a, int fromIndex, int toIndex) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = fromIndex;
+		for(int end4 = toIndex - 3; i < end4; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for(; i < toIndex; i++) {
+			s0 += a[i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+
+	/** Find the indices of the values in the range {@code [fromIndex, toIndex)} of an array which are between {@code min} and {@code max} inclusive,
+	 * {@code NaN} values never match
+	 * @return the matching array indices in ascending order
+	 */
+	public static int[] indicesInRange(double[] a, int fromIndex, int toIndex, double min, double max) {
+		Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+		int[] res = new int[toIndex - fromIndex];
+		int n = 0;
+		for(int i = fromIndex; i < toIndex; i++) {
+			double v = a[i];
+			// always store the index and only advance the output position on a match, avoids an unpredictable branch
+			res[n] = i;
+			n += (v >= min & v <= max) ? 1 : 0;
+		}
+		return n == res.length ? res : Arrays.copyOf(res, n);
+	}
+
+
+	private static void checkNonEmpty(int fromIndex, int toIndex, int length) {
+		Objects.checkFromToIndex(fromIndex, toIndex, length);
+		if(fromIndex == toIndex) {
+			throw new NoSuchElementException("empty range [" + fromIndex + ", " + toIndex + ")");
+		}
+	}
+
+}
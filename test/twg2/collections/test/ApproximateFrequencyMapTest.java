@@ -0,0 +1,77 @@
+package twg2.collections.test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.ApproximateFrequencyMap;
+import twg2.collections.dataStructures.ApproximateFrequencyMap.HeavyHitter;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ApproximateFrequencyMapTest {
+
+	@Test
+	public void estimatesAndHeavyHitters() {
+		ApproximateFrequencyMap<Integer> freqs = new ApproximateFrequencyMap<>(0.001, 0.01, 10);
+		Assert.assertEquals(4096, freqs.getWidth());
+		Assert.assertEquals(5, freqs.getDepth());
+
+		Random rand = new Random(3);
+		Map<Integer, Long> exact = new HashMap<>();
+		for(int i = 0; i < 200_000; i++) {
+			// skewed keys, the first few are heavy hitters and there is a long tail of rare keys
+			int key = (rand.nextInt(4) == 0 ? rand.nextInt(5) : rand.nextInt(50_000) + 5);
+			long prev = freqs.getAndIncrement(key);
+			Assert.assertTrue(prev >= exact.getOrDefault(key, 0L));
+			exact.merge(key, 1L, Long::sum);
+		}
+		Assert.assertEquals(200_000, freqs.total());
+
+		long bound = freqs.errorBound();
+		int violations = 0;
+		for(Map.Entry<Integer, Long> entry : exact.entrySet()) {
+			long estimate = freqs.get(entry.getKey());
+			Assert.assertTrue(estimate >= entry.getValue());
+			if(estimate > entry.getValue() + bound) {
+				violations++;
+			}
+		}
+		// expected violation rate is below delta
+		Assert.assertTrue("violations: " + violations, violations < exact.size() * 0.01);
+
+		List<HeavyHitter<Integer>> top = freqs.topK();
+		Assert.assertEquals(10, top.size());
+		for(int i = 0; i < 5; i++) {
+			HeavyHitter<Integer> hitter = top.get(i);
+			Assert.assertTrue(hitter.getKey() < 5);
+			long trueCount = exact.get(hitter.getKey());
+			Assert.assertTrue(hitter.getCount() >= trueCount && hitter.getCount() - hitter.getError() <= trueCount);
+		}
+		Assert.assertTrue(top.get(0).getCount() >= top.get(9).getCount());
+
+		freqs.clear();
+		Assert.assertEquals(0, freqs.get(1));
+		Assert.assertTrue(freqs.topK().isEmpty());
+	}
+
+
+	@Test
+	public void decrementsAndNullKeys() {
+		ApproximateFrequencyMap<String> freqs = new ApproximateFrequencyMap<>(0.01, 0.05, 2);
+		freqs.add("a", 10);
+		freqs.add(null, 4);
+		freqs.subtract("a", 3);
+		freqs.decrement("untracked");
+		Assert.assertEquals(7, freqs.get("a"));
+		Assert.assertEquals(4, freqs.get(null));
+		Assert.assertEquals("[a=7, null=4]", freqs.topK().toString());
+	}
+
+}
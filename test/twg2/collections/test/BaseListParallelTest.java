@@ -0,0 +1,77 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.BaseList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class BaseListParallelTest {
+	private static final int SIZE = 100_000;
+
+
+	private static BaseList<Integer> randomList(int size) {
+		Random rand = new Random(7);
+		BaseList<Integer> list = new BaseList<>(size);
+		for(int i = 0; i < size; i++) {
+			list.add(rand.nextInt(SIZE));
+		}
+		return list;
+	}
+
+
+	@Test
+	public void parallelSort() {
+		BaseList<Integer> list = randomList(SIZE);
+		List<Integer> expect = new ArrayList<>(list);
+		expect.sort(Comparator.reverseOrder());
+
+		list.parallelSort(Comparator.reverseOrder());
+		Assert.assertEquals(expect, list);
+
+		list.parallelSort(null);
+		expect.sort(null);
+		Assert.assertEquals(expect, list);
+	}
+
+
+	@Test
+	public void parallelReplaceAllAndForEach() {
+		for(int size : new int[] { 10, SIZE }) {
+			BaseList<Integer> list = randomList(size);
+			List<Integer> expect = new ArrayList<>(list);
+			expect.replaceAll((n) -> n * 2 + 1);
+
+			list.parallelReplaceAll((n) -> n * 2 + 1);
+			Assert.assertEquals(expect, list);
+
+			AtomicLong sum = new AtomicLong();
+			list.parallelForEach((n) -> sum.addAndGet(n));
+			Assert.assertEquals(expect.stream().mapToLong(Integer::longValue).sum(), sum.get());
+		}
+	}
+
+
+	@Test
+	public void parallelRemoveIf() {
+		for(int size : new int[] { 10, SIZE }) {
+			BaseList<Integer> list = randomList(size);
+			List<Integer> expect = new ArrayList<>(list);
+			expect.removeIf((n) -> n % 3 == 0);
+
+			Assert.assertTrue(list.parallelRemoveIf((n) -> n % 3 == 0));
+			Assert.assertEquals(expect, list);
+			Assert.assertFalse(list.parallelRemoveIf((n) -> n % 3 == 0));
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package twg2.collections.test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.BaseList;
+import twg2.collections.dataStructures.GapList;
+import twg2.collections.interfaces.ListReadOnly;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class BaseListSnapshotTest {
+
+	@Test
+	public void snapshotIsolatedFromWrites() {
+		BaseList<String> list = new BaseList<>(Arrays.asList("a", "b", "c"));
+
+		ListReadOnly<String> snap1 = list.snapshot();
+		list.add("d"); // append, does not copy
+		ListReadOnly<String> snap2 = list.snapshot();
+		list.set(0, "A");
+		list.remove(1);
+		list.add(0, "Z");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), snap1);
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), snap2);
+		Assert.assertEquals(Arrays.asList("Z", "A", "c", "d"), list);
+
+		ListReadOnly<String> snap3 = list.snapshot();
+		list.sort(null);
+		list.removeIf((s) -> s.equals("c"));
+		list.subList(0, 1).set(0, "B");
+		Assert.assertEquals(Arrays.asList("Z", "A", "c", "d"), snap3);
+		Assert.assertEquals(Arrays.asList("B", "Z", "d"), list);
+
+		ListReadOnly<String> snap4 = list.snapshot();
+		list.clear();
+		Assert.assertEquals(Arrays.asList("B", "Z", "d"), snap4);
+		Assert.assertEquals(2, snap4.indexOf("d"));
+		Assert.assertArrayEquals(new Object[] { "B", "Z", "d" }, snap4.toArray());
+		Assert.assertTrue(list.isEmpty());
+	}
+
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void snapshotIsImmutable() {
+		BaseList<String> list = new BaseList<>(Arrays.asList("a", "b"));
+		@SuppressWarnings("unchecked")
+		List<String> snap = (List<String>)list.snapshot();
+		snap.set(0, "c");
+	}
+
+
+	@Test
+	public void gapListSnapshot() {
+		GapList<Integer> list = new GapList<>();
+		for(int i = 0; i < 8; i++) {
+			list.add(i);
+		}
+		list.add(2, 20);
+		ListReadOnly<Integer> snap = list.snapshot();
+		list.add(5, 50);
+		list.remove(0);
+		list.add(100);
+		Assert.assertEquals(Arrays.asList(0, 1, 20, 2, 3, 4, 5, 6, 7), snap);
+		Assert.assertEquals(Arrays.asList(1, 20, 2, 3, 50, 4, 5, 6, 7, 100), list);
+	}
+
+}
@@ -0,0 +1,84 @@
+package twg2.collections.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.BaseList;
+import twg2.collections.dataStructures.GapList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class BaseListTypedTest {
+
+	@Test
+	public void typedArray() {
+		BaseList<String> list = new BaseList<>(String.class, 2);
+		Assert.assertEquals(String.class, list.getComponentType());
+		for(int i = 0; i < 20; i++) {
+			list.add("s" + i);
+		}
+		list.add(5, "x");
+		list.remove(0);
+
+		String[] raw = (String[])list.getRawArray();
+		Assert.assertSame(raw, list.getRawArray());
+		Assert.assertTrue(raw.length >= list.size());
+		Assert.assertEquals("x", raw[4]);
+
+		list.trimToSize();
+		Assert.assertEquals(20, ((String[])list.getRawArray()).length);
+
+		// toArray() always returns an Object[]
+		Assert.assertEquals(Object[].class, list.toArray().getClass());
+		String[] strs = list.toArray(new String[0]);
+		Assert.assertEquals(20, strs.length);
+		Assert.assertEquals("s19", strs[19]);
+
+		@SuppressWarnings("unchecked")
+		BaseList<String> copy = (BaseList<String>)list.clone();
+		Assert.assertTrue(copy.getRawArray() instanceof String[]);
+		Assert.assertEquals(list, copy);
+
+		list.clear();
+		list.trimToSize();
+		Assert.assertTrue(list.getRawArray() instanceof String[]);
+
+		// a released typed list grows to the default capacity, like an untyped list
+		list.add("a");
+		list.release();
+		Assert.assertEquals(0, list.getRawArray().length);
+		list.add("b");
+		Assert.assertEquals(10, ((String[])list.getRawArray()).length);
+
+		BaseList<Object> untyped = new BaseList<>(Arrays.asList("a", "b"));
+		Assert.assertEquals(Object.class, untyped.getComponentType());
+		Assert.assertEquals(Object[].class, untyped.getRawArray().getClass());
+	}
+
+
+	@Test
+	public void typedGapList() {
+		GapList<Integer> list = new GapList<>(Integer.class, 4);
+		for(int i = 0; i < 10; i++) {
+			list.add(0, i);
+		}
+		list.add(5, -1);
+		Integer[] raw = (Integer[])list.getRawArray();
+		Assert.assertEquals(Integer.valueOf(9), raw[0]);
+		Assert.assertEquals(Integer.valueOf(-1), raw[5]);
+		Assert.assertEquals(Integer.valueOf(0), raw[10]);
+	}
+
+
+	@Test(expected = ArrayStoreException.class)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void typedArrayStore() {
+		BaseList list = new BaseList<>(String.class, 4);
+		list.add(1);
+	}
+
+}
@@ -0,0 +1,78 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.BigList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class BigListTest {
+
+	@Test
+	public void bigListTest() {
+		BigList<String> list = new BigList<>(4);
+		for(int i = 0; i < 10; i++) {
+			list.add("s" + i);
+		}
+
+		Assert.assertEquals(10L, list.sizeLong());
+		Assert.assertEquals("s9", list.get(9L));
+		Assert.assertEquals("s5", list.set(5L, "A"));
+		Assert.assertEquals(5L, list.indexOf("A"));
+		Assert.assertEquals(-1L, list.indexOf("s5"));
+
+		Assert.assertEquals("s9", list.removeLast());
+		Assert.assertEquals(9L, list.sizeLong());
+		Assert.assertEquals("[s0, s1, s2, s3, s4, A, s6, s7, s8]", list.toString());
+
+		list.clear();
+		Assert.assertTrue(list.isEmpty());
+		list.add(null);
+		Assert.assertTrue(list.contains(null));
+	}
+
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getOutOfRange() {
+		BigList<String> list = new BigList<>(4);
+		list.add("a");
+		list.get(1L);
+	}
+
+
+	@Test
+	public void spliteratorAndParallelForEach() {
+		BigList<Long> list = new BigList<>(8);
+		long expectSum = 0;
+		for(long i = 0; i < 1000; i++) {
+			list.add(i);
+			expectSum += i;
+		}
+
+		Spliterator<Long> spliter = list.spliterator();
+		Spliterator<Long> prefix = spliter.trySplit();
+		Assert.assertEquals(0, prefix.estimateSize() % 8);
+		Assert.assertEquals(1000L, prefix.estimateSize() + spliter.estimateSize());
+
+		List<Long> res = new ArrayList<>();
+		prefix.forEachRemaining(res::add);
+		spliter.forEachRemaining(res::add);
+		for(int i = 0; i < 1000; i++) {
+			Assert.assertEquals(Long.valueOf(i), res.get(i));
+		}
+
+		AtomicLong sum = new AtomicLong();
+		list.parallelForEach((n) -> sum.addAndGet(n));
+		Assert.assertEquals(expectSum, sum.get());
+		Assert.assertEquals(expectSum, list.stream().mapToLong(Long::longValue).sum());
+	}
+
+}
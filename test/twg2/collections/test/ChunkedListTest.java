@@ -0,0 +1,94 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.ChunkedList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ChunkedListTest {
+
+	@Test
+	public void chunkedListTest() {
+		ChunkedList<String> list = new ChunkedList<>(4);
+		for(int i = 0; i < 10; i++) {
+			list.add("s" + i);
+		}
+
+		Assert.assertEquals(10, list.size());
+		Assert.assertEquals("s9", list.get(9));
+		Assert.assertEquals(4, list.indexOf("s4"));
+		Assert.assertEquals(-1, list.indexOf("s10"));
+
+		list.add(1, "A");
+		list.add(11, "B");
+		Assert.assertEquals(Arrays.asList("s0", "A", "s1", "s2", "s3", "s4", "s5", "s6", "s7", "s8", "s9", "B"), list);
+		Assert.assertEquals(1, list.lastIndexOf("A"));
+
+		Assert.assertEquals("s4", list.remove(5));
+		list.subList(2, 8).clear();
+		Assert.assertEquals(Arrays.asList("s0", "A", "s8", "s9", "B"), list);
+		Assert.assertArrayEquals(new String[] { "s0", "A", "s8", "s9", "B" }, list.toArray(new String[0]));
+
+		list.addAll(2, Arrays.asList("x", "y", "z", "w", "v"));
+		Assert.assertEquals(Arrays.asList("s0", "A", "x", "y", "z", "w", "v", "s8", "s9", "B"), list);
+
+		list.clear();
+		list.trimToSize();
+		Assert.assertTrue(list.isEmpty());
+		list.add(null);
+		Assert.assertEquals(0, list.indexOf(null));
+		Assert.assertEquals(0, list.lastIndexOf(null));
+	}
+
+
+	@Test
+	public void randomOpsMatchArrayList() {
+		Random rand = new Random(42);
+		List<Integer> expect = new ArrayList<>();
+		ChunkedList<Integer> list = new ChunkedList<>(8);
+
+		for(int i = 0; i < 5000; i++) {
+			int op = rand.nextInt(6);
+			if(op < 2 || expect.isEmpty()) {
+				expect.add(i);
+				list.add(i);
+			}
+			else if(op == 2) {
+				int idx = rand.nextInt(expect.size() + 1);
+				expect.add(idx, i);
+				list.add(idx, i);
+			}
+			else if(op == 3) {
+				int idx = rand.nextInt(expect.size());
+				Assert.assertEquals(expect.remove(idx), list.remove(idx));
+			}
+			else if(op == 4) {
+				int from = rand.nextInt(expect.size());
+				int to = from + rand.nextInt(Math.min(20, expect.size() - from) + 1);
+				expect.subList(from, to).clear();
+				list.subList(from, to).clear();
+			}
+			else {
+				int idx = rand.nextInt(expect.size() + 1);
+				List<Integer> items = Arrays.asList(-i, -i - 1, -i - 2);
+				expect.addAll(idx, items);
+				list.addAll(idx, items);
+			}
+		}
+
+		Assert.assertEquals(expect, list);
+		List<Integer> res = new ArrayList<>();
+		list.forEach(res::add);
+		Assert.assertEquals(expect, res);
+	}
+
+}
@@ -0,0 +1,143 @@
+package twg2.collections.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.Bag;
+import twg2.collections.dataStructures.BaseList;
+import twg2.collections.dataStructures.PairBag;
+import twg2.collections.io.CollectionCodecs;
+import twg2.collections.io.ElementCodec;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class CollectionCodecsTest {
+
+	@Test
+	public void collectionRoundTrip() throws IOException {
+		Bag<String> bag = new Bag<>(new String[] { "A", "Bb", "\u00E9\u4E2D" });
+		PairBag<String, Integer> pairs = new PairBag<>(Arrays.asList("x", "y"), Arrays.asList(1, 2));
+		BaseList<Long> list = new BaseList<>(Arrays.asList(5L, null, 7L));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		CollectionCodecs.writeBag(out, bag, ElementCodec.STRING);
+		CollectionCodecs.writePairBag(out, pairs, ElementCodec.STRING, ElementCodec.INT);
+		CollectionCodecs.writeList(out, list, ElementCodec.nullable(ElementCodec.LONG));
+		out.flush();
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		Assert.assertEquals(bag, CollectionCodecs.readBag(in, ElementCodec.STRING));
+
+		PairBag<String, Integer> pairsRes = CollectionCodecs.readPairBag(in, ElementCodec.STRING, ElementCodec.INT);
+		Assert.assertEquals(pairs.keyList(), pairsRes.keyList());
+		Assert.assertEquals(pairs.valueList(), pairsRes.valueList());
+
+		Assert.assertEquals(list, CollectionCodecs.readList(in, ElementCodec.nullable(ElementCodec.LONG)));
+		Assert.assertEquals(-1, in.read());
+	}
+
+
+	@Test(expected = EOFException.class)
+	public void corruptSizeReadsUntilEndOfInput() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(Integer.MAX_VALUE);
+		out.writeInt(42);
+		out.flush();
+
+		// a huge size is not pre-allocated, the read fails when the input ends
+		CollectionCodecs.readList(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ElementCodec.INT);
+	}
+
+
+	@Test
+	public void corruptArrayLengthFailsWithoutPreallocating() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(Integer.MAX_VALUE);
+		out.writeLong(42);
+		out.flush();
+		byte[] truncated = bytes.toByteArray();
+
+		// a huge length is not pre-allocated, the read fails when the input ends
+		for(int type = 0; type < 3; type++) {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(truncated));
+			try {
+				if(type == 0) { CollectionCodecs.readInts(in); }
+				else if(type == 1) { CollectionCodecs.readLongs(in); }
+				else { CollectionCodecs.readDoubles(in); }
+				Assert.fail("expected EOFException");
+			} catch (EOFException e) {
+				// expected
+			}
+
+			// buffer readers check the length against the remaining bytes
+			ByteBuffer buf = ByteBuffer.wrap(truncated);
+			try {
+				if(type == 0) { CollectionCodecs.readInts(buf); }
+				else if(type == 1) { CollectionCodecs.readLongs(buf); }
+				else { CollectionCodecs.readDoubles(buf); }
+				Assert.fail("expected IOException");
+			} catch (IOException e) {
+				// expected
+			}
+		}
+
+		// an array larger than the initial capacity still grows to its full length
+		int[] ints = new int[200_000];
+		ints[ints.length - 1] = 7;
+		bytes.reset();
+		CollectionCodecs.writeInts(out, ints, 0, ints.length);
+		out.flush();
+		Assert.assertArrayEquals(ints, CollectionCodecs.readInts(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+	}
+
+
+	@Test
+	public void primitiveArrayRoundTrip() throws IOException {
+		int[] ints = new int[5000];
+		long[] longs = new long[3];
+		double[] doubles = new double[] { 1.5, -2.25, Double.NaN };
+		for(int i = 0; i < ints.length; i++) {
+			ints[i] = i * 31 - 7;
+		}
+		longs[1] = Long.MIN_VALUE;
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		CollectionCodecs.writeInts(out, ints, 0, ints.length);
+		CollectionCodecs.writeLongs(out, longs, 1, 2);
+		CollectionCodecs.writeDoubles(out, doubles, 0, doubles.length);
+		out.flush();
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		Assert.assertArrayEquals(ints, CollectionCodecs.readInts(in));
+		Assert.assertArrayEquals(new long[] { Long.MIN_VALUE, 0 }, CollectionCodecs.readLongs(in));
+		Assert.assertArrayEquals(doubles, CollectionCodecs.readDoubles(in), 0);
+
+		ByteBuffer buf = ByteBuffer.allocate(bytes.size());
+		CollectionCodecs.writeInts(buf, ints, 0, ints.length);
+		CollectionCodecs.writeLongs(buf, longs, 1, 2);
+		CollectionCodecs.writeDoubles(buf, doubles, 0, doubles.length);
+		Assert.assertArrayEquals(bytes.toByteArray(), buf.array());
+
+		buf.flip();
+		Assert.assertArrayEquals(ints, CollectionCodecs.readInts(buf));
+		Assert.assertArrayEquals(new long[] { Long.MIN_VALUE, 0 }, CollectionCodecs.readLongs(buf));
+		Assert.assertArrayEquals(doubles, CollectionCodecs.readDoubles(buf), 0);
+		Assert.assertEquals(0, buf.remaining());
+	}
+
+}
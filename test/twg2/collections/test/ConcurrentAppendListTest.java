@@ -0,0 +1,131 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.ConcurrentAppendList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ConcurrentAppendListTest {
+
+	@Test
+	public void concurrentAppendListTest() {
+		ConcurrentAppendList<String> list = new ConcurrentAppendList<>(2);
+		Assert.assertEquals(0, list.add("a"));
+		Assert.assertEquals(1, list.addAll(Arrays.asList("b", "c", "d", "e", "f", "g")));
+		Assert.assertEquals(7, list.add("h"));
+
+		Assert.assertEquals(8, list.size());
+		Assert.assertEquals("h", list.get(7));
+		Assert.assertEquals(4, list.indexOf("e"));
+		Assert.assertEquals("[a, b, c, d, e, f, g, h]", list.toString());
+		Assert.assertArrayEquals(new Object[] { "a", "b", "c", "d", "e", "f", "g", "h" }, list.toArray());
+
+		// iterators only see the watermark at the time they were created
+		Iterator<String> iter = list.iterator();
+		list.add("i");
+		int count = 0;
+		while(iter.hasNext()) {
+			iter.next();
+			count++;
+		}
+		Assert.assertEquals(8, count);
+		Assert.assertEquals(9L, list.stream().count());
+	}
+
+
+	@Test(expected = NullPointerException.class)
+	public void addNull() {
+		new ConcurrentAppendList<String>().add(null);
+	}
+
+
+	@Test
+	public void rejectedAddAllReservesNothing() {
+		ConcurrentAppendList<String> list = new ConcurrentAppendList<String>() {
+			{
+				// pretend the list is nearly full without allocating its chunks
+				reserved.set(maxSize - 2);
+			}
+		};
+		try {
+			list.addAll(Arrays.asList("a", "b", "c"));
+			Assert.fail("expected the list to be full");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		Assert.assertEquals(Integer.MAX_VALUE - 64 - 1, list.reservedSize());
+	}
+
+
+	@Test
+	public void concurrentWriters() throws InterruptedException {
+		final int threadCount = 6;
+		final int perThread = 20_000;
+		ConcurrentAppendList<long[]> list = new ConcurrentAppendList<>(4);
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<String> readerError = new AtomicReference<>();
+
+		Thread reader = new Thread(() -> {
+			while(!done.get()) {
+				int size = list.size();
+				int count = 0;
+				for(long[] e : list) {
+					if(e == null) {
+						readerError.set("null element below watermark");
+					}
+					count++;
+				}
+				if(count < size) {
+					readerError.set("iterated " + count + " of " + size + " published elements");
+				}
+			}
+		});
+		reader.start();
+
+		List<Thread> writers = new ArrayList<>();
+		for(int t = 0; t < threadCount; t++) {
+			final long threadId = t;
+			Thread writer = new Thread(() -> {
+				for(int i = 0; i < perThread; i++) {
+					if(i % 10 == 0) {
+						list.addAll(Arrays.asList(new long[] { threadId, i }, new long[] { threadId, i + 1 }));
+						i++;
+					}
+					else {
+						list.add(new long[] { threadId, i });
+					}
+				}
+			});
+			writers.add(writer);
+			writer.start();
+		}
+		for(Thread writer : writers) {
+			writer.join();
+		}
+		done.set(true);
+		reader.join();
+
+		Assert.assertNull(readerError.get());
+		Assert.assertEquals(threadCount * perThread, list.size());
+		Assert.assertEquals(list.size(), list.reservedSize());
+
+		// each writer's elements appear in the order they were appended
+		long[] nextExpected = new long[threadCount];
+		for(long[] e : list) {
+			Assert.assertEquals(nextExpected[(int)e[0]], e[1]);
+			nextExpected[(int)e[0]]++;
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.ConcurrentFrequencyMap;
+import twg2.collections.dataStructures.FrequencyMap;
+import twg2.simpleTypes.ioPrimitives.JNumericType;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ConcurrentFrequencyMapTest {
+
+	@Test
+	public void concurrentCounting() throws InterruptedException {
+		final int threadCount = 8;
+		final int perThread = 50_000;
+		ConcurrentFrequencyMap<String> freqs = new ConcurrentFrequencyMap<>();
+
+		List<Thread> threads = new ArrayList<>();
+		for(int t = 0; t < threadCount; t++) {
+			final int threadId = t;
+			Thread thread = new Thread(() -> {
+				for(int i = 0; i < perThread; i++) {
+					// one hot key shared by every thread and a few keys per thread
+					freqs.increment("hot");
+					freqs.add("key" + (i % 4), 2);
+					if(i % 1000 == 0) {
+						freqs.decrement("thread" + threadId);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(threadCount * perThread, freqs.get("hot"));
+		Assert.assertEquals(threadCount * perThread / 2, freqs.get("key0"));
+		Assert.assertEquals(-perThread / 1000, freqs.get("thread3"));
+		Assert.assertEquals(1 + 4 + threadCount, freqs.size());
+		Assert.assertEquals(threadCount * perThread * 3L - threadCount * (perThread / 1000), freqs.total());
+
+		FrequencyMap<String, Long> snapshot = freqs.snapshot();
+		Assert.assertEquals(freqs.size(), snapshot.size());
+		Assert.assertEquals(Long.valueOf(threadCount * perThread), snapshot.get("hot"));
+
+		// long counts above 2^53 are copied exactly, not rounded through a double
+		freqs.add("big", (1L << 53) + 1);
+		Assert.assertEquals(Long.valueOf((1L << 53) + 1), freqs.snapshot().get("big"));
+		freqs.remove("big");
+
+		FrequencyMap<String, Integer> intSnapshot = freqs.snapshot(JNumericType.INT);
+		Assert.assertEquals(Integer.valueOf(-perThread / 1000), intSnapshot.get("thread0"));
+
+		Assert.assertEquals(threadCount * perThread, freqs.remove("hot"));
+		Assert.assertFalse(freqs.contains("hot"));
+		Assert.assertEquals(0, freqs.get("hot"));
+		freqs.subtract("key1", 5);
+		Assert.assertEquals(threadCount * perThread / 2 - 5, freqs.get("key1"));
+	}
+
+}
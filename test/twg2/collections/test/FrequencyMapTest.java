@@ -0,0 +1,89 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.FrequencyMap;
+import twg2.simpleTypes.ioPrimitives.JNumericType;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class FrequencyMapTest {
+
+	@Test
+	public void topK() {
+		FrequencyMap<Integer, Long> freqs = new FrequencyMap<>(JNumericType.LONG);
+		Random rand = new Random(5);
+		for(int i = 0; i < 100_000; i++) {
+			// distinct counts so the expected order is unambiguous
+			freqs.add(i, i * 7919L % 100_003 + (1L << 40));
+		}
+		freqs.increment(-1);
+
+		List<Map.Entry<Integer, Long>> all = new ArrayList<>(freqs.getRawFrequencyMap().entrySet());
+		all.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+		List<Map.Entry<Integer, Long>> expected = all.subList(0, 100);
+
+		Assert.assertEquals(expected, freqs.topK(100));
+		Assert.assertEquals(expected, freqs.parallelTopK(100));
+		Assert.assertEquals(all.subList(0, 1), freqs.topK(1));
+		Assert.assertTrue(freqs.topK(0).isEmpty());
+
+		// returned entries are copies
+		Map.Entry<Integer, Long> top = freqs.topK(1).get(0);
+		Long topCount = top.getValue();
+		freqs.increment(top.getKey());
+		Assert.assertEquals(topCount, top.getValue());
+		Assert.assertEquals(Long.valueOf(topCount + 1), freqs.get(top.getKey()));
+
+		FrequencyMap<String, Double> small = new FrequencyMap<>(JNumericType.DOUBLE);
+		small.add("a", 1.5);
+		small.add("b", 2.5);
+		Assert.assertEquals(2, small.topK(rand.nextInt(10) + 5).size());
+		Assert.assertEquals("b", small.parallelTopK(1).get(0).getKey());
+	}
+
+
+	@Test
+	public void mergeAndCollect() {
+		FrequencyMap<String, Integer> a = new FrequencyMap<>(JNumericType.INT);
+		a.add("x", 3);
+		a.add("y", 1);
+		FrequencyMap<String, Long> b = new FrequencyMap<>(JNumericType.LONG);
+		b.add("y", 4);
+		b.add("z", 2);
+		a.merge(b);
+		Assert.assertEquals(Integer.valueOf(3), a.get("x"));
+		Assert.assertEquals(Integer.valueOf(5), a.get("y"));
+		Assert.assertEquals(Integer.valueOf(2), a.get("z"));
+		Assert.assertEquals(2, b.size());
+
+		FrequencyMap<String, Long> c = new FrequencyMap<>(JNumericType.LONG);
+		c.add("z", 1);
+		b.merge(c);
+		Assert.assertEquals(Long.valueOf(3), b.get("z"));
+
+		FrequencyMap<Integer, Long> counts = IntStream.range(0, 200_000).parallel().boxed()
+				.collect(FrequencyMap.counting(JNumericType.LONG));
+		Assert.assertEquals(200_000, counts.size());
+
+		FrequencyMap<Integer, Integer> mod = IntStream.range(0, 200_000).parallel().mapToObj((i) -> i % 7)
+				.collect(FrequencyMap.counting(JNumericType.INT));
+		Map<Integer, Long> expected = IntStream.range(0, 200_000).mapToObj((i) -> i % 7)
+				.collect(Collectors.groupingBy((i) -> i, Collectors.counting()));
+		Assert.assertEquals(7, mod.size());
+		for(Map.Entry<Integer, Long> entry : expected.entrySet()) {
+			Assert.assertEquals(entry.getValue().intValue(), mod.get(entry.getKey()).intValue());
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.GapList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class GapListTest {
+
+	@Test
+	public void gapListTest() {
+		GapList<String> list = new GapList<>(4);
+		list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+
+		// insert near a cursor, moving the gap back and forth
+		list.add(2, "X");
+		list.add(3, "Y");
+		list.add(1, "Z");
+		Assert.assertEquals(Arrays.asList("a", "Z", "b", "X", "Y", "c", "d", "e"), list);
+		Assert.assertEquals("X", list.remove(3));
+		Assert.assertEquals("Z", list.remove(1));
+		Assert.assertEquals(Arrays.asList("a", "b", "Y", "c", "d", "e"), list);
+
+		Assert.assertEquals("Y", list.set(2, "W"));
+		Assert.assertEquals(2, list.indexOf("W"));
+		Assert.assertTrue(list.remove("W"));
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), list);
+
+		list.addAll(1, Arrays.asList("1", "2"));
+		list.subList(4, 6).clear();
+		Assert.assertEquals(Arrays.asList("a", "1", "2", "b", "e"), list);
+		Assert.assertArrayEquals(new Object[] { "a", "1", "2", "b", "e" }, list.toArray());
+
+		ListIterator<String> iter = list.listIterator(2);
+		iter.add("3");
+		Assert.assertEquals("2", iter.next());
+		iter.remove();
+		Assert.assertEquals("b", iter.next());
+		Assert.assertEquals(Arrays.asList("a", "1", "3", "b", "e"), list);
+
+		list.clear();
+		Assert.assertTrue(list.isEmpty());
+		list.add("z");
+		Assert.assertEquals(Arrays.asList("z"), list);
+	}
+
+
+	@Test
+	public void spliteratorBindsAfterGapMoves() {
+		GapList<Integer> list = new GapList<>(4);
+		list.addAll(Arrays.asList(0, 1, 2, 3, 4));
+		Spliterator<Integer> spliter = list.spliterator();
+		// moves the gap after the spliterator is created but before it is used
+		list.add(1, 99);
+
+		List<Integer> res = new ArrayList<>();
+		spliter.forEachRemaining(res::add);
+		Assert.assertEquals(Arrays.asList(0, 99, 1, 2, 3, 4), res);
+		Assert.assertEquals(list, res);
+
+		spliter = list.spliterator();
+		list.remove(2);
+		Spliterator<Integer> prefix = spliter.trySplit();
+		res.clear();
+		prefix.forEachRemaining(res::add);
+		spliter.forEachRemaining(res::add);
+		Assert.assertEquals(Arrays.asList(0, 99, 2, 3, 4), res);
+	}
+
+
+	@Test
+	public void randomOpsMatchArrayList() {
+		Random rand = new Random(32);
+		GapList<Integer> list = new GapList<>();
+		List<Integer> expect = new ArrayList<>();
+
+		for(int n = 0; n < 5000; n++) {
+			int op = rand.nextInt(10);
+			int size = expect.size();
+			if(op < 4 || size == 0) {
+				int idx = rand.nextInt(size + 1);
+				list.add(idx, n);
+				expect.add(idx, n);
+			}
+			else if(op < 6) {
+				int idx = rand.nextInt(size);
+				Assert.assertEquals(expect.remove(idx), list.remove(idx));
+			}
+			else if(op < 7) {
+				int idx = rand.nextInt(size);
+				Assert.assertEquals(expect.set(idx, -n), list.set(idx, -n));
+			}
+			else if(op < 8) {
+				int from = rand.nextInt(size + 1);
+				int to = Math.min(size, from + rand.nextInt(4));
+				list.subList(from, to).clear();
+				expect.subList(from, to).clear();
+			}
+			else if(op < 9) {
+				int idx = rand.nextInt(size + 1);
+				List<Integer> elems = Arrays.asList(n, n + 1, n + 2);
+				list.addAll(idx, elems);
+				expect.addAll(idx, elems);
+			}
+			else {
+				Integer val = expect.get(rand.nextInt(size));
+				Assert.assertEquals(expect.indexOf(val), list.indexOf(val));
+			}
+			Assert.assertEquals(expect.size(), list.size());
+		}
+
+		Assert.assertEquals(expect, list);
+		Iterator<Integer> iter = list.iterator();
+		for(Integer e : expect) {
+			Assert.assertEquals(e, iter.next());
+		}
+		Assert.assertFalse(iter.hasNext());
+
+		list.sort(null);
+		expect.sort(null);
+		Assert.assertEquals(expect, list);
+	}
+
+}
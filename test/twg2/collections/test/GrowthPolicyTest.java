@@ -0,0 +1,97 @@
+package twg2.collections.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.ArrayRecycler;
+import twg2.collections.dataStructures.BaseList;
+import twg2.collections.dataStructures.GapList;
+import twg2.collections.dataStructures.GrowthPolicy;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class GrowthPolicyTest {
+
+	@Test
+	public void growthPolicies() {
+		Assert.assertEquals(11, GrowthPolicy.EXACT.newCapacity(10, 11));
+		Assert.assertEquals(15, GrowthPolicy.ONE_AND_HALF.newCapacity(10, 11));
+		Assert.assertEquals(20, GrowthPolicy.DOUBLE.newCapacity(10, 11));
+		Assert.assertEquals(16, GrowthPolicy.POWER_OF_TWO.newCapacity(10, 11));
+		Assert.assertEquals(16, GrowthPolicy.POWER_OF_TWO.newCapacity(10, 16));
+		Assert.assertEquals(1100, GrowthPolicy.cappedIncrement(100).newCapacity(1000, 1001));
+		Assert.assertEquals(1500, GrowthPolicy.cappedIncrement(100).newCapacity(1000, 1500));
+		Assert.assertEquals(Integer.MAX_VALUE, GrowthPolicy.DOUBLE.newCapacity(Integer.MAX_VALUE - 100, Integer.MAX_VALUE - 99));
+
+		BaseList<Integer> list = new BaseList<>(4, GrowthPolicy.EXACT, null);
+		for(int i = 0; i < 100; i++) {
+			list.add(i);
+		}
+		list.add(50, -1);
+		Assert.assertEquals(101, list.size());
+		Assert.assertEquals(Integer.valueOf(-1), list.get(50));
+		Assert.assertEquals(Integer.valueOf(99), list.get(100));
+	}
+
+
+	@Test
+	public void arrayRecycler() {
+		ArrayRecycler recycler = new ArrayRecycler(16, 2);
+		Object[] a = recycler.acquire(20);
+		Assert.assertEquals(32, a.length);
+		a[0] = "x";
+		recycler.release(a, 1);
+		Assert.assertEquals(1, recycler.pooledCount());
+		Object[] b = recycler.acquire(17);
+		Assert.assertSame(a, b);
+		Assert.assertNull(b[0]);
+		Assert.assertEquals(0, recycler.pooledCount());
+
+		// too small to pool
+		recycler.release(new Object[8], 0);
+		Assert.assertEquals(0, recycler.pooledCount());
+		Assert.assertEquals(5, recycler.acquire(5).length);
+	}
+
+
+	@Test
+	public void listsShareRecycler() {
+		ArrayRecycler recycler = new ArrayRecycler(16, 4);
+		BaseList<String> list1 = new BaseList<>(0, GrowthPolicy.POWER_OF_TWO, recycler);
+		for(int i = 0; i < 40; i++) {
+			list1.add("a" + i);
+		}
+		// growing released the smaller arrays
+		Assert.assertEquals(2, recycler.pooledCount());
+		list1.release();
+		Assert.assertTrue(list1.isEmpty());
+		Assert.assertEquals(3, recycler.pooledCount());
+
+		BaseList<String> list2 = new BaseList<>(0, GrowthPolicy.POWER_OF_TWO, recycler);
+		list2.addAll(Arrays.asList(new String[40]));
+		Assert.assertEquals(2, recycler.pooledCount());
+		Assert.assertEquals(40, list2.size());
+
+		// arrays shared with a snapshot are never released
+		BaseList<String> list3 = new BaseList<>(Arrays.asList("a", "b", "c"));
+		list3.setRecycler(recycler);
+		list3.snapshot();
+		list3.release();
+		Assert.assertEquals(2, recycler.pooledCount());
+
+		GapList<String> gapList = new GapList<>();
+		gapList.setRecycler(recycler);
+		for(int i = 0; i < 40; i++) {
+			gapList.add(i / 2, "g" + i);
+		}
+		Assert.assertEquals(40, gapList.size());
+		gapList.release();
+		gapList.add("z");
+		Assert.assertEquals(Arrays.asList("z"), gapList);
+	}
+
+}
@@ -0,0 +1,103 @@
+package twg2.collections.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.Bag;
+import twg2.collections.dataStructures.IndexedBag;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class IndexedBagTest {
+
+	@Test
+	public void indexedBagTest() {
+		IndexedBag<String> bag = new IndexedBag<>(new String[] { "Alpha", "Beta", "Gamma", "Delta" });
+
+		Assert.assertTrue(bag.contains("Gamma"));
+		Assert.assertEquals(2, bag.indexOf("Gamma"));
+		Assert.assertEquals(-1, bag.indexOf("Zeta"));
+
+		// swap-remove moves 'Delta' into index 1
+		Assert.assertEquals("Beta", bag.remove(1));
+		Assert.assertFalse(bag.contains("Beta"));
+		Assert.assertEquals(1, bag.indexOf("Delta"));
+		Assert.assertEquals(new Bag<>(new String[] { "Alpha", "Delta", "Gamma" }), bag);
+
+		bag.set(0, "Epsilon");
+		Assert.assertFalse(bag.contains("Alpha"));
+		Assert.assertEquals(0, bag.indexOf("Epsilon"));
+
+		Assert.assertTrue(bag.remove("Epsilon"));
+		Assert.assertFalse(bag.remove("Epsilon"));
+		Assert.assertEquals(0, bag.indexOf("Gamma"));
+		Assert.assertEquals(1, bag.indexOf("Delta"));
+
+		bag.clear();
+		Assert.assertFalse(bag.contains("Gamma"));
+		Assert.assertEquals(0, bag.size());
+
+		bag.clearAndAddAll(Arrays.asList("W", "X", "Y"));
+		Assert.assertEquals(2, bag.indexOf("Y"));
+		bag.clearAndAddAll(new String[] { "Z" });
+		Assert.assertFalse(bag.contains("Y"));
+		Assert.assertEquals(0, bag.indexOf("Z"));
+	}
+
+
+	@Test
+	public void duplicatesAndNulls() {
+		IndexedBag<String> bag = new IndexedBag<>(2);
+		bag.addAll(Arrays.asList("A", "B", "A", null, "A", "C"));
+
+		Assert.assertEquals(0, bag.indexOf("A"));
+		Assert.assertEquals(2, bag.indexOf("A", 1));
+		Assert.assertEquals(4, bag.lastIndexOf("A"));
+		Assert.assertEquals(3, bag.indexOf(null));
+
+		Assert.assertEquals("A", bag.remove(0)); // [C, B, A, null, A]
+		Assert.assertEquals(2, bag.indexOf("A"));
+		Assert.assertEquals(0, bag.indexOf("C"));
+
+		Assert.assertTrue(bag.remove("A"));
+		Assert.assertTrue(bag.contains("A"));
+		Assert.assertTrue(bag.remove("A"));
+		Assert.assertFalse(bag.contains("A"));
+
+		Assert.assertTrue(bag.remove((String)null));
+		Assert.assertFalse(bag.contains(null));
+		Assert.assertEquals(2, bag.size());
+	}
+
+
+	@Test
+	public void swapRemove() {
+		IndexedBag<Integer> bag = new IndexedBag<>();
+		for(int i = 0; i < 100; i++) {
+			bag.add(i % 10);
+		}
+
+		for(int i = bag.size() - 1; i > -1; i--) {
+			if(bag.get(i) % 2 == 0) {
+				bag.remove(i);
+			}
+		}
+
+		Assert.assertEquals(50, bag.size());
+		for(int i = 0; i < 10; i++) {
+			Assert.assertEquals(i % 2 != 0, bag.contains(i));
+		}
+		for(int i = 0, size = bag.size(); i < size; i++) {
+			Assert.assertEquals(i, bag.indexOf(bag.get(i), i));
+		}
+
+		IndexedBag<Integer> copy = bag.copy();
+		Assert.assertEquals(bag, copy);
+		Assert.assertEquals(bag.indexOf(7), copy.indexOf(7));
+	}
+
+}
@@ -0,0 +1,58 @@
+package twg2.collections.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.IntSparseSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class IntSparseSetTest {
+
+	@Test
+	public void intSparseSetTest() {
+		IntSparseSet set = new IntSparseSet(100);
+
+		Assert.assertTrue(set.add(5));
+		Assert.assertTrue(set.add(99));
+		Assert.assertTrue(set.add(0));
+		Assert.assertFalse(set.add(5));
+		Assert.assertEquals(3, set.size());
+		Assert.assertArrayEquals(new int[] { 5, 99, 0 }, set.toArray());
+
+		Assert.assertTrue(set.contains(99));
+		Assert.assertFalse(set.contains(98));
+		Assert.assertFalse(set.contains(-1));
+		Assert.assertFalse(set.contains(100));
+		Assert.assertEquals(1, set.indexOf(99));
+
+		Assert.assertTrue(set.remove(5));
+		Assert.assertFalse(set.remove(5));
+		Assert.assertArrayEquals(new int[] { 0, 99 }, set.toArray());
+		Assert.assertEquals(0, set.indexOf(0));
+
+		Assert.assertEquals(99, set.removeIndex(1));
+		Assert.assertEquals("[0]", set.toString());
+
+		set.clear();
+		Assert.assertTrue(set.isEmpty());
+		Assert.assertFalse(set.contains(0));
+		Assert.assertTrue(set.add(99));
+		Assert.assertFalse(set.contains(0));
+		Assert.assertEquals(0, set.indexOf(99));
+
+		IntSparseSet copy = set.copy();
+		copy.add(1);
+		Assert.assertEquals(1, set.size());
+		Assert.assertEquals(2, copy.size());
+	}
+
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void addOutOfRange() {
+		new IntSparseSet(10).add(10);
+	}
+
+}
@@ -0,0 +1,75 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.ArrayView;
+import twg2.collections.dataStructures.BaseList;
+import twg2.collections.dataStructures.GapList;
+import twg2.collections.dataStructures.ListCursor;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class ListCursorTest {
+
+	@Test
+	public void cursorReuse() {
+		BaseList<String> list = new BaseList<>(Arrays.asList("A", "B", "C", "D", "E"));
+		ArrayView<String> view = new ArrayView<>(new String[] { "x", "y", "z", "w" }, 1, 3);
+		GapList<String> gapList = new GapList<>(Arrays.asList("1", "2", "3"));
+		gapList.add(1, "1.5");
+
+		ListCursor<String> cursor = new ListCursor<>();
+
+		Assert.assertEquals(Arrays.asList("A", "B", "C", "D", "E"), collect(cursor.reset(list)));
+		Assert.assertEquals(Arrays.asList("B", "C"), collect(cursor.reset(list, 1, 3)));
+
+		BaseList.SubList<String> subList = (BaseList.SubList<String>)list.subList(1, 4);
+		Assert.assertEquals(Arrays.asList("B", "C", "D"), collect(cursor.reset(subList)));
+		Assert.assertEquals(Arrays.asList("C"), collect(cursor.reset(subList, 1, 2)));
+
+		Assert.assertEquals(Arrays.asList("y", "z", "w"), collect(cursor.reset(view)));
+		Assert.assertEquals(Arrays.asList("z"), collect(cursor.reset(view, 1, 2)));
+
+		Assert.assertEquals(Arrays.asList("1", "1.5", "2", "3"), collect(cursor.reset(gapList)));
+
+		cursor.reset(list);
+		Assert.assertEquals("A", cursor.next());
+		int mark = cursor.nextIndex();
+		Assert.assertEquals("B", cursor.next());
+		cursor.rewind(mark);
+		Assert.assertEquals("B", cursor.next());
+
+		List<String> rest = new ArrayList<>();
+		cursor.forEachRemaining(rest::add);
+		Assert.assertEquals(Arrays.asList("C", "D", "E"), rest);
+		Assert.assertFalse(cursor.hasNext());
+	}
+
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void cursorFailFast() {
+		BaseList<String> list = new BaseList<>(Arrays.asList("A", "B"));
+		ListCursor<String> cursor = new ListCursor<String>().reset(list);
+		cursor.next();
+		list.add("C");
+		cursor.next();
+	}
+
+
+	private static List<String> collect(ListCursor<String> cursor) {
+		List<String> res = new ArrayList<>();
+		for(String str : cursor) {
+			res.add(str);
+		}
+		return res;
+	}
+
+}
@@ -0,0 +1,133 @@
+package twg2.collections.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.PersistentVector;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class PersistentVectorTest {
+
+	@Test
+	public void persistentVectorTest() {
+		PersistentVector<String> v0 = PersistentVector.of("a", "b", "c");
+		PersistentVector<String> v1 = v0.append("d");
+		PersistentVector<String> v2 = v1.set(1, "B");
+		PersistentVector<String> v3 = v2.removeLast();
+
+		Assert.assertEquals("[a, b, c]", v0.toString());
+		Assert.assertEquals("[a, b, c, d]", v1.toString());
+		Assert.assertEquals("[a, B, c, d]", v2.toString());
+		Assert.assertEquals("[a, B, c]", v3.toString());
+		Assert.assertEquals(1, v2.indexOf("B"));
+		Assert.assertEquals(-1, v1.indexOf("B"));
+		Assert.assertArrayEquals(new Object[] { "B", "c" }, v3.slice(1, 3).toArray());
+		Assert.assertEquals(PersistentVector.of("a", "b", "c", "a", "B", "c"), v0.concat(v3));
+		Assert.assertTrue(v0.slice(1, 1).isEmpty());
+	}
+
+
+	@Test
+	public void largeVectorsMatchArrayList() {
+		int size = 40_000; // more than 32^3 elements, 3 trie levels plus the tail
+		PersistentVector<Integer> vec = PersistentVector.empty();
+		List<Integer> expect = new ArrayList<>();
+		for(int i = 0; i < size; i++) {
+			vec = vec.append(i);
+			expect.add(i);
+		}
+		assertVectorEquals(expect, vec);
+		Assert.assertEquals(vec, PersistentVector.from(expect));
+		Assert.assertEquals(expect.hashCode(), vec.hashCode());
+
+		PersistentVector<Integer> old = vec;
+		vec = vec.set(12345, -1).set(size - 1, -2);
+		Assert.assertEquals(Integer.valueOf(12345), old.get(12345));
+		Assert.assertEquals(Integer.valueOf(-1), vec.get(12345));
+		Assert.assertEquals(Integer.valueOf(-2), vec.get(size - 1));
+
+		// slices of slices, including ranges inside a single leaf and ranges spanning the tail
+		Random rand = new Random(34);
+		for(int n = 0; n < 200; n++) {
+			int from = rand.nextInt(size + 1);
+			int to = from + rand.nextInt(size - from + 1);
+			PersistentVector<Integer> slice = old.slice(from, to);
+			List<Integer> expectSlice = expect.subList(from, to);
+			assertVectorEquals(expectSlice, slice);
+
+			if(slice.size() > 2) {
+				int from2 = rand.nextInt(slice.size() / 2);
+				assertVectorEquals(expectSlice.subList(from2, slice.size() - 1), slice.slice(from2, slice.size() - 1));
+			}
+		}
+	}
+
+
+	@Test
+	public void randomOpsOnSlices() {
+		Random rand = new Random(340);
+		PersistentVector<Integer> vec = PersistentVector.empty();
+		List<Integer> expect = new ArrayList<>();
+
+		for(int n = 0; n < 20_000; n++) {
+			int op = rand.nextInt(20);
+			if(op < 12 || expect.isEmpty()) {
+				vec = vec.append(n);
+				expect.add(n);
+			}
+			else if(op < 14) {
+				vec = vec.removeLast();
+				expect.remove(expect.size() - 1);
+			}
+			else if(op < 17) {
+				int idx = rand.nextInt(expect.size());
+				vec = vec.set(idx, -n);
+				expect.set(idx, -n);
+			}
+			else if(op < 18) {
+				int from = rand.nextInt(Math.min(expect.size(), 40));
+				int to = expect.size() - rand.nextInt(Math.min(expect.size() - from, 40) + 1);
+				vec = vec.slice(from, to);
+				expect = new ArrayList<>(expect.subList(from, to));
+			}
+			else {
+				List<Integer> elems = Arrays.asList(n, n + 1, n + 2, n + 3, n + 4);
+				vec = vec.concat(elems);
+				expect.addAll(elems);
+			}
+			Assert.assertEquals(expect.size(), vec.size());
+		}
+		assertVectorEquals(expect, vec);
+	}
+
+
+	private static void assertVectorEquals(List<Integer> expect, PersistentVector<Integer> vec) {
+		Assert.assertEquals(expect.size(), vec.size());
+		for(int i = 0, n = expect.size(); i < n; i++) {
+			Assert.assertEquals(expect.get(i), vec.get(i));
+		}
+		List<Integer> iterated = new ArrayList<>();
+		vec.forEach(iterated::add);
+		Assert.assertEquals(expect, iterated);
+		iterated.clear();
+		for(Integer e : vec) {
+			iterated.add(e);
+		}
+		Assert.assertEquals(expect, iterated);
+		Assert.assertArrayEquals(expect.toArray(), vec.toArray());
+		if(!expect.isEmpty()) {
+			Integer last = expect.get(expect.size() - 1);
+			Assert.assertEquals(expect.indexOf(last), vec.indexOf(last));
+			Assert.assertEquals(expect.lastIndexOf(expect.get(0)), vec.lastIndexOf(expect.get(0)));
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+package twg2.collections.test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.IntIntFrequencyMap;
+import twg2.collections.dataStructures.ObjIntFrequencyMap;
+import twg2.collections.dataStructures.ObjLongFrequencyMap;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class PrimitiveFrequencyMapTest {
+
+	@Test
+	public void objIntMatchesHashMap() {
+		Random rand = new Random(7);
+		ObjIntFrequencyMap<String> freqs = new ObjIntFrequencyMap<>(0);
+		Map<String, Integer> expected = new HashMap<>();
+		for(int i = 0; i < 20000; i++) {
+			String key = (rand.nextInt(50) == 0 ? null : "k" + rand.nextInt(300));
+			if(rand.nextInt(5) == 0) {
+				Integer old = expected.remove(key);
+				Assert.assertEquals(old != null ? old.intValue() : 0, freqs.remove(key));
+			}
+			else {
+				int add = rand.nextInt(5) - 1;
+				Integer old = expected.get(key);
+				expected.put(key, (old != null ? old : 0) + add);
+				Assert.assertEquals(old != null ? old.intValue() : 0, freqs.getAndAdd(key, add));
+			}
+			Assert.assertEquals(expected.size(), freqs.size());
+		}
+		for(Map.Entry<String, Integer> entry : expected.entrySet()) {
+			Assert.assertTrue(freqs.contains(entry.getKey()));
+			Assert.assertEquals(entry.getValue().intValue(), freqs.get(entry.getKey()));
+		}
+		Map<String, Integer> visited = new HashMap<>();
+		freqs.forEach((k, c) -> visited.put(k, c));
+		Assert.assertEquals(expected, visited);
+
+		freqs.clear();
+		Assert.assertTrue(freqs.isEmpty());
+		Assert.assertFalse(freqs.contains(null));
+	}
+
+
+	@Test
+	public void objLongCounts() {
+		ObjLongFrequencyMap<String> freqs = new ObjLongFrequencyMap<>();
+		freqs.increment("a");
+		freqs.add("a", Integer.MAX_VALUE);
+		freqs.subtract("b", 3);
+		Assert.assertEquals(Integer.MAX_VALUE + 1L, freqs.get("a"));
+		Assert.assertEquals(-3, freqs.getAndIncrement("b"));
+		Assert.assertEquals(-2, freqs.get("b"));
+		Assert.assertEquals(0, freqs.get("c"));
+		Assert.assertFalse(freqs.contains("c"));
+		Assert.assertEquals(5, freqs.addAndGet("c", 5));
+		Assert.assertEquals(3, freqs.size());
+	}
+
+
+	@Test
+	public void intIntMatchesHashMap() {
+		Random rand = new Random(11);
+		IntIntFrequencyMap freqs = new IntIntFrequencyMap(4);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for(int i = 0; i < 20000; i++) {
+			int key = rand.nextInt(400) - 200;
+			if(rand.nextInt(4) == 0) {
+				Integer old = expected.remove(key);
+				Assert.assertEquals(old != null ? old.intValue() : 0, freqs.remove(key));
+			}
+			else {
+				Integer old = expected.get(key);
+				expected.put(key, (old != null ? old : 0) + 1);
+				Assert.assertEquals(old != null ? old.intValue() : 0, freqs.getAndIncrement(key));
+			}
+			Assert.assertEquals(expected.size(), freqs.size());
+		}
+		Map<Integer, Integer> visited = new HashMap<>();
+		freqs.forEach((k, c) -> visited.put(k, c));
+		Assert.assertEquals(expected, visited);
+		Assert.assertEquals(expected.size(), freqs.keys().length);
+
+		freqs.clear();
+		freqs.decrement(0);
+		Assert.assertTrue(freqs.contains(0));
+		Assert.assertEquals("{0=-1}", freqs.toString());
+	}
+
+}
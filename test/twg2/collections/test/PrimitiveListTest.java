@@ -0,0 +1,119 @@
+package twg2.collections.test;
+
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.DoubleList;
+import twg2.collections.dataStructures.IntList;
+import twg2.collections.dataStructures.LongList;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class PrimitiveListTest {
+
+	@Test
+	public void intList() {
+		IntList list = new IntList(0);
+		for(int i = 0; i < 20; i++) {
+			list.add(i * 2);
+		}
+		list.add(0, -1);
+		Assert.assertEquals(21, list.size());
+		Assert.assertEquals(-1, list.get(0));
+		Assert.assertEquals(-1, list.remove(0));
+		Assert.assertTrue(list.removeValue(0));
+		Assert.assertEquals(2, list.remove(0));
+		Assert.assertFalse(list.removeValue(3));
+		Assert.assertEquals(18, list.size());
+		Assert.assertEquals(4, list.get(0));
+
+		list.removeRange(0, 7);
+		Assert.assertArrayEquals(new int[] { 18, 20, 22, 24, 26, 28, 30, 32, 34, 36, 38 }, list.toArray());
+
+		list.set(0, 100);
+		list.sort();
+		Assert.assertEquals(100, list.get(10));
+		Assert.assertEquals(3, list.binarySearch(26));
+		Assert.assertEquals(-1, list.binarySearch(0));
+		Assert.assertEquals(10, list.indexOf(100));
+		Assert.assertEquals(-1, list.indexOf(18));
+
+		list.addAll(new int[] { 1, 2, 3 });
+		list.addAll(list);
+		Assert.assertEquals(28, list.size());
+		Assert.assertEquals(14, list.lastIndexOf(20) - list.indexOf(20));
+
+		Assert.assertEquals(IntList.of(1, 2, 3), new IntList(IntList.of(5, 1, 2, 3).subList(1, 4).toArray()));
+		Assert.assertEquals(IntList.of(1, 2, 3).hashCode(), new IntList(new int[] { 1, 2, 3 }).hashCode());
+		Assert.assertEquals("[1, 2, 3]", IntList.of(1, 2, 3).toString());
+		Assert.assertEquals(6, IntList.of(1, 2, 3).stream().sum());
+	}
+
+
+	@Test
+	public void intSubList() {
+		IntList list = IntList.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+		IntList.SubList sub = list.subList(2, 8);
+		Assert.assertEquals("[7, 6, 5, 4, 3, 2]", sub.toString());
+		sub.sort();
+		Assert.assertEquals("[9, 8, 2, 3, 4, 5, 6, 7, 1, 0]", list.toString());
+		Assert.assertEquals(2, sub.binarySearch(4));
+		Assert.assertEquals(-1, sub.binarySearch(1));
+		Assert.assertEquals(-7, sub.binarySearch(8));
+
+		IntList.SubList sub2 = sub.subList(1, 3);
+		sub2.add(0, 42);
+		sub2.remove(2);
+		Assert.assertEquals("[42, 3]", sub2.toString());
+		Assert.assertEquals(6, sub.size());
+		Assert.assertEquals("[9, 8, 2, 42, 3, 5, 6, 7, 1, 0]", list.toString());
+		sub.removeRange(0, 2);
+		Assert.assertEquals(4, sub.size());
+		Assert.assertEquals(3, sub.indexOf(7));
+		Assert.assertEquals(21, sub.stream().sum());
+
+		PrimitiveIterator.OfInt iter = sub.iterator();
+		int sum = 0;
+		while(iter.hasNext()) {
+			sum += iter.nextInt();
+		}
+		Assert.assertEquals(21, sum);
+
+		list.add(1);
+		try {
+			sub.size();
+			Assert.fail("expected ConcurrentModificationException");
+		} catch(ConcurrentModificationException cme) {
+			// expected
+		}
+	}
+
+
+	@Test
+	public void longAndDoubleList() {
+		LongList longs = new LongList();
+		for(long i = 0; i < 100; i++) {
+			longs.add(Integer.MAX_VALUE + i);
+		}
+		Assert.assertEquals(100 * (long)Integer.MAX_VALUE + 4950, longs.stream().sum());
+		Assert.assertEquals(50, longs.binarySearch(Integer.MAX_VALUE + 50L));
+		Assert.assertEquals(Integer.MAX_VALUE + 99L, longs.remove(99));
+		longs.subList(0, 90).clear();
+		Assert.assertArrayEquals(new long[] { Integer.MAX_VALUE + 90L, Integer.MAX_VALUE + 91L, Integer.MAX_VALUE + 92L, Integer.MAX_VALUE + 93L,
+				Integer.MAX_VALUE + 94L, Integer.MAX_VALUE + 95L, Integer.MAX_VALUE + 96L, Integer.MAX_VALUE + 97L, Integer.MAX_VALUE + 98L }, longs.toArray());
+
+		DoubleList doubles = DoubleList.of(3.5, Double.NaN, -0.0, 0.0, 1.25);
+		Assert.assertEquals(1, doubles.indexOf(Double.NaN));
+		Assert.assertEquals(3, doubles.indexOf(0.0));
+		doubles.sort();
+		Assert.assertArrayEquals(new double[] { -0.0, 0.0, 1.25, 3.5, Double.NaN }, doubles.toArray(), 0.0);
+		Assert.assertEquals(4.75, doubles.subList(0, 4).stream().sum(), 0.0);
+		Assert.assertEquals(DoubleList.of(1.0, 2.0), DoubleList.of(1.0, 2.0));
+	}
+
+}
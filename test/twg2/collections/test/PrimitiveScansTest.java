@@ -0,0 +1,103 @@
+package twg2.collections.test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.DoubleList;
+import twg2.collections.dataStructures.IntList;
+import twg2.collections.util.PrimitiveScans;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class PrimitiveScansTest {
+
+	@Test
+	public void intScansMatchScalarLoops() {
+		Random rand = new Random(42);
+		for(int len = 0; len < 40; len++) {
+			int[] a = new int[len];
+			for(int i = 0; i < len; i++) {
+				a[i] = rand.nextInt(10) - 5;
+			}
+			for(int from = 0; from <= Math.min(len, 5); from++) {
+				int to = len - (len > from ? rand.nextInt(len - from) : 0);
+				for(int value = -6; value <= 5; value++) {
+					int first = -1, last = -1, count = 0;
+					for(int i = from; i < to; i++) {
+						if(a[i] == value) {
+							if(first < 0) { first = i; }
+							last = i;
+							count++;
+						}
+					}
+					Assert.assertEquals(first, PrimitiveScans.indexOf(a, from, to, value));
+					Assert.assertEquals(last, PrimitiveScans.lastIndexOf(a, from, to, value));
+					Assert.assertEquals(count, PrimitiveScans.count(a, from, to, value));
+				}
+				long sum = 0;
+				int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+				int[] idxs = new int[to - from];
+				int n = 0;
+				for(int i = from; i < to; i++) {
+					sum += a[i];
+					min = Math.min(min, a[i]);
+					max = Math.max(max, a[i]);
+					if(a[i] >= -1 && a[i] <= 2) {
+						idxs[n++] = i;
+					}
+				}
+				Assert.assertEquals(sum, PrimitiveScans.sum(a, from, to));
+				Assert.assertArrayEquals(Arrays.copyOf(idxs, n), PrimitiveScans.indicesInRange(a, from, to, -1, 2));
+				if(to > from) {
+					Assert.assertEquals(min, PrimitiveScans.min(a, from, to));
+					Assert.assertEquals(max, PrimitiveScans.max(a, from, to));
+				}
+			}
+		}
+		Assert.assertEquals(3L * Integer.MAX_VALUE, PrimitiveScans.sum(new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE }, 0, 3));
+	}
+
+
+	@Test
+	public void doubleScans() {
+		double[] a = { 1.5, -0.0, Double.NaN, 0.0, 4.0, -2.5, 0.0 };
+		Assert.assertEquals(2, PrimitiveScans.indexOf(a, 0, a.length, Double.NaN));
+		Assert.assertEquals(1, PrimitiveScans.indexOf(a, 0, a.length, -0.0));
+		Assert.assertEquals(6, PrimitiveScans.lastIndexOf(a, 0, a.length, 0.0));
+		Assert.assertEquals(2, PrimitiveScans.count(a, 0, a.length, 0.0));
+		Assert.assertTrue(Double.isNaN(PrimitiveScans.max(a, 0, a.length)));
+		Assert.assertEquals(-2.5, PrimitiveScans.min(a, 3, a.length), 0.0);
+		Assert.assertEquals(1.5, PrimitiveScans.sum(a, 3, a.length), 0.0);
+		Assert.assertArrayEquals(new int[] { 1, 3, 6 }, PrimitiveScans.indicesInRange(a, 0, a.length, -1.0, 1.0));
+
+		DoubleList list = DoubleList.of(a);
+		Assert.assertEquals(2, list.count(0.0));
+		Assert.assertArrayEquals(new int[] { 0, 1, 3 }, list.subList(3, 7).indicesInRange(0.0, 4.0));
+	}
+
+
+	@Test
+	public void listAggregates() {
+		IntList list = IntList.of(5, 3, 9, -4, 3, 7);
+		Assert.assertEquals(-4, list.min());
+		Assert.assertEquals(9, list.max());
+		Assert.assertEquals(23, list.sum());
+		Assert.assertEquals(2, list.count(3));
+		Assert.assertArrayEquals(new int[] { 1, 4 }, list.indicesInRange(3, 4));
+		Assert.assertEquals(9, list.subList(1, 3).max());
+		Assert.assertEquals(3, list.subList(4, 6).min());
+	}
+
+
+	@Test(expected = NoSuchElementException.class)
+	public void minOfEmpty() {
+		new IntList().min();
+	}
+
+}
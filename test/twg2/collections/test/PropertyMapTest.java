@@ -0,0 +1,214 @@
+package twg2.collections.test;
+
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.PropertyMap;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class PropertyMapTest {
+	private static final String PROPS = "# comment\n" +
+			"  ! another comment \\\n" +
+			"a=1\n" +
+			"b : two words  \n" +
+			"c\tthree\r\n" +
+			"d = multi \\\n" +
+			"     line \\\r\n" +
+			"\tvalue\r" +
+			"e\\ key\\=\\:=esc\\taped\\u0041\\\\\n" +
+			"\n" +
+			"   \n" +
+			"f\n" +
+			"g=\n" +
+			"h==x\n" +
+			"i  =  :y\n" +
+			"a=overwritten\n" +
+			"\u00E9=\u00FF\n" +
+			"\\\n" +
+			"\n" +
+			"z=1\n" +
+			"\\\n" +
+			"#comment \\uXYZW\n" +
+			"last=trailing\\";
+
+
+	@Test
+	public void parseLikeProperties() throws IOException {
+		Map<String, String> expected = toMap(PROPS);
+
+		Assert.assertEquals(expected, PropertyMap.loadFromReader(new StringReader(PROPS)).getProperties());
+		Assert.assertEquals(expected, PropertyMap.loadFromStream(new ByteArrayInputStream(PROPS.getBytes(StandardCharsets.ISO_8859_1))).getProperties());
+
+		Path tmp = Files.createTempFile("property-map-test", ".properties");
+		try {
+			Files.write(tmp, PROPS.getBytes(StandardCharsets.ISO_8859_1));
+			Assert.assertEquals(expected, PropertyMap.loadFromFile(tmp).getProperties());
+			Assert.assertEquals(expected, PropertyMap.loadFromFile(tmp.toFile()).getProperties());
+			Files.write(tmp, new byte[0]);
+			Assert.assertTrue(PropertyMap.loadFromFile(tmp).getProperties().isEmpty());
+		} finally {
+			Files.delete(tmp);
+		}
+		// a missing file is reported the same way by both overloads
+		Assert.assertTrue(PropertyMap.loadFromFile(tmp).getProperties().isEmpty());
+		Assert.assertTrue(PropertyMap.loadFromFile(tmp.toFile()).getProperties().isEmpty());
+
+		Assert.assertEquals("overwritten", expected.get("a"));
+		Assert.assertEquals("multi line value", expected.get("d"));
+		Assert.assertEquals("esc\taped" + "A\\", expected.get("e key=:"));
+		Assert.assertEquals(12, expected.size());
+		Assert.assertEquals("1", expected.get("z"));
+	}
+
+
+	@Test
+	public void cachedHandles() {
+		PropertyMap props = PropertyMap.loadFromReader(new StringReader("port=8080\nratio=2.5\ncolor=0xFF8800\nenabled=true\ndir=/tmp/a\n"));
+		PropertyMap.IntProperty port = props.intProperty("port", 80);
+		PropertyMap.IntProperty limit = props.intProperty("limit", 500, 0, 100);
+		PropertyMap.FloatProperty ratio = props.floatProperty("ratio", 1.0f);
+		PropertyMap.BooleanProperty enabled = props.booleanProperty("enabled", false);
+		PropertyMap.Property<Color> color = props.colorProperty("color", Color.BLACK);
+		PropertyMap.Property<Path> dir = props.pathProperty("dir", Paths.get("."));
+		PropertyMap.Property<String> name = props.stringProperty("name", "default");
+
+		Assert.assertTrue(props.getUsedProperties().isEmpty());
+		Assert.assertEquals(8080, port.get());
+		Assert.assertEquals(100, limit.get());
+		Assert.assertEquals(2.5f, ratio.get(), 0.0f);
+		Assert.assertTrue(enabled.get());
+		Assert.assertEquals(new Color(0xFF8800), color.get());
+		Assert.assertEquals(Paths.get("/tmp/a"), dir.get());
+		Assert.assertEquals("default", name.get());
+		// reading a missing property stores its (clamped) default, like the access*() methods
+		Assert.assertEquals("100", props.getProperties().get("limit"));
+		Assert.assertEquals("8080", props.getUsedProperties().get("port"));
+
+		// the cached value is returned until a property is set
+		Assert.assertEquals(Paths.get("/tmp/a"), dir.get());
+		String dirValue = props.getProperties().put("dir", "/tmp/b");
+		Assert.assertEquals(Paths.get(dirValue), dir.get());
+		props.setInt("port", 9090);
+		Assert.assertEquals(9090, port.get());
+		Assert.assertEquals(Paths.get("/tmp/b"), dir.get());
+		props.setBoolean("enabled", false);
+		Assert.assertFalse(enabled.get());
+		Assert.assertEquals("port", port.getName());
+	}
+
+
+	@Test
+	public void concurrentReads() throws InterruptedException {
+		Map<String, String> init = new HashMap<>();
+		for(int i = 0; i < 100; i++) {
+			init.put("key" + i, Integer.toString(i));
+		}
+		PropertyMap props = PropertyMap.concurrent(init);
+		Assert.assertTrue(props.getProperties() instanceof ConcurrentHashMap);
+		PropertyMap.IntProperty key7 = props.intProperty("key7", -1);
+
+		AtomicInteger errors = new AtomicInteger();
+		Thread[] threads = new Thread[16];
+		for(int t = 0; t < threads.length; t++) {
+			final int threadId = t;
+			threads[t] = new Thread(() -> {
+				for(int i = 0; i < 20_000; i++) {
+					int k = i % 100;
+					if(props.accessInt("key" + k, -1) != k && k != 99) {
+						errors.incrementAndGet();
+					}
+					if(key7.get() != 7) {
+						errors.incrementAndGet();
+					}
+					// a few writes while other threads read
+					if(threadId == 0 && i % 1000 == 0) {
+						props.setInt("key99", i);
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(0, errors.get());
+		Assert.assertEquals(100, props.getUsedProperties().size());
+		Assert.assertEquals("19000", props.getUsedProperties().get("key99"));
+		props.setInt("key7", 77);
+		Assert.assertEquals(77, key7.get());
+	}
+
+
+	@Test
+	public void concurrentHandleRefresh() throws InterruptedException {
+		PropertyMap props = PropertyMap.concurrent(new HashMap<>());
+		props.setInt("n", 0);
+		PropertyMap.IntProperty n = props.intProperty("n", -1);
+		int writes = 20_000;
+
+		AtomicInteger errors = new AtomicInteger();
+		AtomicInteger done = new AtomicInteger();
+		Thread[] readers = new Thread[8];
+		for(int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				while(done.get() == 0) {
+					int value = n.get();
+					if(value < 0 || value > writes) {
+						errors.incrementAndGet();
+					}
+				}
+				// once the writes are finished, no refresh may leave an old value cached as current
+				if(n.get() != writes) {
+					errors.incrementAndGet();
+				}
+			});
+			readers[t].start();
+		}
+		for(int i = 1; i <= writes; i++) {
+			props.setInt("n", i);
+		}
+		done.set(1);
+		for(Thread reader : readers) {
+			reader.join();
+		}
+
+		Assert.assertEquals(0, errors.get());
+		Assert.assertEquals(writes, n.get());
+	}
+
+
+	@Test(expected = IllegalArgumentException.class)
+	public void malformedUnicodeEscape() {
+		PropertyMap.loadFromReader(new StringReader("a=\\u12x4"));
+	}
+
+
+	private static Map<String, String> toMap(String src) throws IOException {
+		Properties props = new Properties();
+		props.load(new StringReader(src));
+		Map<String, String> res = new HashMap<>();
+		for(String name : props.stringPropertyNames()) {
+			res.put(name, props.getProperty(name));
+		}
+		return res;
+	}
+
+}
@@ -0,0 +1,81 @@
+package twg2.collections.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.PropertyMap;
+import twg2.collections.dataStructures.PropertyMapWatcher;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class PropertyMapWatcherTest {
+
+	@Test
+	public void reloadAndNotify() throws IOException, InterruptedException {
+		Path dir = Files.createTempDirectory("property-map-watcher-test");
+		Path file = dir.resolve("app.properties");
+		Files.write(file, "a=1\nb=2\nc=3\n".getBytes(StandardCharsets.ISO_8859_1));
+
+		try(PropertyMapWatcher watcher = PropertyMap.watchFile(file)) {
+			PropertyMap first = watcher.get();
+			Assert.assertEquals(3, first.accessInt("c", 0));
+
+			BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+			// a failing listener does not stop the other listeners or the watch thread
+			watcher.addListener((keys, oldSnapshot, newSnapshot) -> {
+				throw new IllegalStateException("listener failure from test");
+			});
+			watcher.addListener((keys, oldSnapshot, newSnapshot) -> changes.add(keys));
+
+			// unchanged content does not publish a new snapshot, even after a reader stores a default value in the snapshot
+			Assert.assertEquals(30, first.accessInt("timeout", 30));
+			Assert.assertFalse(watcher.reload());
+			Assert.assertSame(first, watcher.get());
+
+			// picked up by the watch thread
+			Files.write(file, "a=1\nb=20\nd=4\n".getBytes(StandardCharsets.ISO_8859_1));
+			Assert.assertEquals(new HashSet<>(Arrays.asList("b", "c", "d")), changes.poll(20, TimeUnit.SECONDS));
+			Assert.assertEquals("20", watcher.getString("b"));
+			Assert.assertNull(watcher.getString("c"));
+
+			// the old snapshot is unchanged
+			Assert.assertEquals("2", first.getString("b"));
+
+			// a parse failure keeps the current snapshot
+			AtomicReference<Exception> failure = new AtomicReference<>();
+			watcher.addListener(new PropertyMapWatcher.Listener() {
+				@Override public void propertiesChanged(Set<String> keys, PropertyMap oldSnapshot, PropertyMap newSnapshot) { }
+				@Override public void reloadFailed(Path path, Exception error) { failure.set(error); }
+			});
+			PropertyMap current = watcher.get();
+			Files.write(file, "a=\\uXYZW\n".getBytes(StandardCharsets.ISO_8859_1));
+			Assert.assertFalse(watcher.reload());
+			Assert.assertTrue(failure.get() instanceof IllegalArgumentException);
+			Assert.assertSame(current, watcher.get());
+
+			// the watch thread is still running after the listener failures
+			Files.write(file, "a=1\nb=20\nd=5\n".getBytes(StandardCharsets.ISO_8859_1));
+			Assert.assertEquals(Collections.singleton("d"), changes.poll(20, TimeUnit.SECONDS));
+			Assert.assertEquals("5", watcher.getString("d"));
+		} finally {
+			Files.delete(file);
+			Files.delete(dir);
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+package twg2.collections.test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.collections.dataStructures.FrequencyMap;
+import twg2.collections.dataStructures.WindowedFrequencyMap;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-19
+ */
+public class WindowedFrequencyMapTest {
+
+	@Test
+	public void windowedCounts() {
+		long[] now = { 1_000 };
+		long second = TimeUnit.SECONDS.toNanos(1);
+		// a 60 second window in 6 ten second buckets
+		WindowedFrequencyMap<String> hits = new WindowedFrequencyMap<>(60, TimeUnit.SECONDS, 6, () -> now[0]);
+		Assert.assertEquals(10 * second, hits.getBucketNanos());
+
+		hits.increment("a");
+		hits.add("b", 5);
+		now[0] += 15 * second;
+		hits.increment("a");
+		Assert.assertEquals(2, hits.getAndIncrement("a"));
+		Assert.assertEquals(3, hits.get("a"));
+		Assert.assertEquals(8, hits.total());
+
+		// the first bucket leaves the window
+		now[0] += 50 * second;
+		Assert.assertEquals(2, hits.get("a"));
+		Assert.assertEquals(0, hits.get("b"));
+		Assert.assertFalse(hits.contains("b"));
+
+		FrequencyMap<String, Long> snapshot = hits.snapshot();
+		Assert.assertEquals(1, snapshot.size());
+		Assert.assertEquals(Long.valueOf(2), snapshot.get("a"));
+
+		hits.subtract("a", 1);
+		Assert.assertEquals(1, hits.get("a"));
+
+		// much more than a full window elapsed
+		now[0] += 1000 * second;
+		Assert.assertEquals(0, hits.total());
+		hits.increment(null);
+		Assert.assertEquals(1, hits.get(null));
+		hits.clear();
+		Assert.assertEquals(0, hits.get(null));
+	}
+
+}